@@ -0,0 +1,63 @@
+package com.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backend.dto.response.GuesthouseResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+/**
+ * 검색 응답(List&lt;GuesthouseResponseDto&gt;) JSON 직렬화.
+ * ObjectMapper 는 애플리케이션 설정(spring.jackson.property-naming-strategy=SNAKE_CASE)과 같게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GuesthouseResponseJsonBenchmark {
+	private static final int ROOMS_PER_GUESTHOUSE = 10;
+
+	@Param({ "10", "100", "1000" })
+	int guesthouseCount;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+	private List<GuesthouseResponseDto> response;
+
+	@Setup
+	public void setUp() {
+		response = new ArrayList<>(guesthouseCount);
+		for (int id = 1; id <= guesthouseCount; id++) {
+			List<Integer> rooms = new ArrayList<>(ROOMS_PER_GUESTHOUSE);
+			for (int r = 0; r < ROOMS_PER_GUESTHOUSE; r++) {
+				rooms.add(id * ROOMS_PER_GUESTHOUSE + r);
+			}
+			response.add(GuesthouseResponseDto.builder()
+					.id(id)
+					.name("게스트하우스 " + id)
+					.address("제주시 애월읍 " + id)
+					.rating(4.2)
+					.photoId(id)
+					.roomCount(ROOMS_PER_GUESTHOUSE)
+					.roomAvailable(rooms)
+					.minPrice(45_000)
+					.build());
+		}
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
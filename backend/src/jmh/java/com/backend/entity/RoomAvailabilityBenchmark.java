@@ -0,0 +1,67 @@
+package com.backend.entity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Room.isAvailable / getReservedPeople (가장 붐비는 박 계산).
+ * 객실당 예약 수는 1년치 1~4박 예약을 무작위로 배치해 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RoomAvailabilityBenchmark {
+	private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+	@Param({ "10", "100", "1000" })
+	int reservationCount;
+
+	private Room room;
+	private LocalDate checkIn;
+	private LocalDate checkOut;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<Reservation> reservations = new ArrayList<>(reservationCount);
+		for (int i = 0; i < reservationCount; i++) {
+			LocalDate in = START.plusDays(random.nextInt(365));
+			reservations.add(Reservation.builder()
+					.id(i)
+					.checkInDate(in)
+					.checkOutDate(in.plusDays(1 + random.nextInt(4)))
+					.peopleCount(1 + random.nextInt(2))
+					.build());
+		}
+		room = Room.builder()
+				.id(1)
+				.capacity(reservationCount * 2)
+				.price(50_000)
+				.reservations(reservations)
+				.build();
+		checkIn = START.plusDays(180);
+		checkOut = checkIn.plusDays(3);
+	}
+
+	@Benchmark
+	public boolean isAvailable() {
+		return room.isAvailable(checkIn, checkOut, 2);
+	}
+
+	@Benchmark
+	public int reservedPeople() {
+		return room.getReservedPeople(checkIn, checkOut);
+	}
+}
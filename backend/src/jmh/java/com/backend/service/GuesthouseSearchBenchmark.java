@@ -0,0 +1,81 @@
+package com.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.backend.dto.response.GuesthouseResponseDto;
+import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.GuesthouseRepository.AvailableRoomRow;
+
+/**
+ * GuesthouseListService.searchGuesthouses 의 애플리케이션 측 비용 (쿼리 결과 행 묶기 + DTO 생성, 캐시 적중).
+ * DB 조회는 제외하고, 게스트하우스당 객실 10개인 합성 카탈로그의 모든 객실이 예약 가능한 경우를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GuesthouseSearchBenchmark {
+	private static final int ROOMS_PER_GUESTHOUSE = 10;
+	private static final LocalDate CHECK_IN = LocalDate.of(2025, 9, 1);
+	private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(2);
+
+	@Param({ "1000", "10000", "100000" })
+	int roomCount;
+
+	private GuesthouseListService uncached;
+	private GuesthouseListService cached;
+
+	private record Row(Integer guesthouseId, String name, String address, Double rating, Integer photoId,
+			Integer roomCount, Integer roomId, Integer price) implements AvailableRoomRow {
+		public Integer getGuesthouseId() { return guesthouseId; }
+		public String getName() { return name; }
+		public String getAddress() { return address; }
+		public Double getRating() { return rating; }
+		public Integer getPhotoId() { return photoId; }
+		public Integer getRoomCount() { return roomCount; }
+		public Integer getRoomId() { return roomId; }
+		public Integer getPrice() { return price; }
+	}
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<AvailableRoomRow> rows = new ArrayList<>(roomCount);
+		for (int roomId = 1; roomId <= roomCount; roomId++) {
+			int guesthouseId = (roomId - 1) / ROOMS_PER_GUESTHOUSE + 1;
+			rows.add(new Row(guesthouseId, "guesthouse-" + guesthouseId, "address-" + guesthouseId,
+					1 + random.nextInt(40) / 10.0, guesthouseId, ROOMS_PER_GUESTHOUSE, roomId,
+					30_000 + random.nextInt(200) * 1_000));
+		}
+		GuesthouseRepository repository = RepositoryStubs.stub(GuesthouseRepository.class,
+				Map.of("findAvailableRooms", rows));
+
+		// TTL 0: 매 호출 조회 결과를 묶는 경로
+		uncached = new GuesthouseListService(repository, new GuesthouseSearchCache(1, Duration.ZERO));
+		cached = new GuesthouseListService(repository, new GuesthouseSearchCache(100, Duration.ofHours(1)));
+	}
+
+	@Benchmark
+	public List<GuesthouseResponseDto> search() {
+		return uncached.searchGuesthouses(1, CHECK_IN, CHECK_OUT, null, 2);
+	}
+
+	@Benchmark
+	public List<GuesthouseResponseDto> searchCacheHit() {
+		return cached.searchGuesthouses(1, CHECK_IN, CHECK_OUT, null, 2);
+	}
+}
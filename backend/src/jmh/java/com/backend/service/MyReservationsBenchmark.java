@@ -0,0 +1,70 @@
+package com.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Pageable;
+
+import com.backend.dto.response.ReservationResponse;
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.MyReservationRow;
+
+/**
+ * ReservationService.getMyReservations 의 projection 행 -> ReservationResponse 변환 비용 (DB 조회 제외).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MyReservationsBenchmark {
+	@Param({ "10", "100", "1000" })
+	int reservationCount;
+
+	private ReservationService reservationService;
+
+	private record Row(Integer id, Integer roomId, Integer guesthouseId, String guesthouseName,
+			LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount, Integer reviewId,
+			String reviewComment) implements MyReservationRow {
+		public Integer getId() { return id; }
+		public Integer getRoomId() { return roomId; }
+		public Integer getGuesthouseId() { return guesthouseId; }
+		public String getGuesthouseName() { return guesthouseName; }
+		public LocalDate getCheckInDate() { return checkInDate; }
+		public LocalDate getCheckOutDate() { return checkOutDate; }
+		public Integer getPeopleCount() { return peopleCount; }
+		public Integer getReviewId() { return reviewId; }
+		public String getReviewComment() { return reviewComment; }
+	}
+
+	@Setup
+	public void setUp() {
+		LocalDate start = LocalDate.of(2025, 1, 1);
+		List<MyReservationRow> rows = new ArrayList<>(reservationCount);
+		for (int i = 1; i <= reservationCount; i++) {
+			LocalDate checkIn = start.plusDays(i);
+			// 절반은 리뷰 작성됨
+			boolean reviewed = i % 2 == 0;
+			rows.add(new Row(i, i % 50 + 1, i % 10 + 1, "guesthouse-" + (i % 10 + 1), checkIn, checkIn.plusDays(2),
+					2, reviewed ? i : null, reviewed ? "좋았어요 " + i : null));
+		}
+		ReservationRepository repository = RepositoryStubs.stub(ReservationRepository.class,
+				Map.of("findMyReservations", rows));
+		// 목록 조회에 쓰지 않는 의존성은 비워 둔다
+		reservationService = new ReservationService(null, repository, null, null, null, null, null, null);
+	}
+
+	@Benchmark
+	public List<ReservationResponse> getMyReservations() {
+		return reservationService.getMyReservations(1, Pageable.unpaged());
+	}
+}
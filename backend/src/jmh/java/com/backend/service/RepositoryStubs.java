@@ -0,0 +1,24 @@
+package com.backend.service;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * 벤치마크용 저장소 스텁. 지정한 메서드는 미리 만든 결과를 돌려주고 나머지는 호출되면 실패한다.
+ * (Mockito 목은 호출 기록/매칭 비용이 측정에 섞이므로 쓰지 않는다.)
+ */
+final class RepositoryStubs {
+	private RepositoryStubs() {
+	}
+
+	static <T> T stub(Class<T> repository, Map<String, Object> results) {
+		Object proxy = Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[] { repository },
+				(self, method, args) -> {
+					if (results.containsKey(method.getName())) {
+						return results.get(method.getName());
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+		return repository.cast(proxy);
+	}
+}
@@ -0,0 +1,290 @@
+package com.backend.loadtest;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기. 사용자/게스트하우스/객실/예약/리뷰를 JDBC 배치로 적재한다.
+ * 같은 인자(seed 포함)와 같은 날짜면 같은 데이터가 만들어진다.
+ *
+ * 스키마는 애플리케이션을 한 번 기동해 Flyway(또는 ddl-auto)로 만든 로컬 MySQL 을 대상으로 한다.
+ * <pre>
+ * ./gradlew loadTestData -Preset=true [-PjdbcUrl=... -PdbUser=... -PdbPassword=...
+ *     -Phosts=100 -Pguests=10000 -Pguesthouses=1000 -ProomsPerGuesthouse=10
+ *     -Preservations=100000 -PreviewRatio=0.3 -Previewable=10000 -Pseed=42]
+ * </pre>
+ * 이미 데이터가 있으면 reset=true 일 때만 모든 행을 지우고 다시 만든다.
+ */
+public final class DataGenerator {
+	private static final int BATCH_SIZE = 1_000;
+	private static final int PAST_DAYS = 365;
+	private static final int FUTURE_DAYS = 180;
+	private static final int MAX_NIGHTS = 4;
+	private static final String[] REGIONS = { "제주시 애월읍", "서귀포시 중문동", "강릉시 경포로", "부산 해운대구", "경주시 황남동",
+			"전주시 완산구", "속초시 청초호반로", "여수시 돌산읍" };
+
+	private static final String RESERVATION_INSERT = "insert into reservation "
+			+ "(id, guest_id, room_id, check_in_date, check_out_date, people_count) values (?, ?, ?, ?, ?, ?)";
+	private static final String REVIEW_INSERT = "insert into review "
+			+ "(id, reservation_id, rating, comment, created_at) values (?, ?, ?, ?, ?)";
+
+	private final Connection connection;
+	private final Random random;
+	private final LocalDate today = LocalDate.now();
+	private final int[] capacities;
+
+	private DataGenerator(Connection connection, long seed, int rooms) {
+		this.connection = connection;
+		this.random = new Random(seed);
+		this.capacities = new int[rooms + 1];
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestArgs options = new LoadTestArgs(args);
+		int hosts = options.getInt("hosts", 100);
+		int guests = options.getInt("guests", 10_000);
+		int guesthouses = options.getInt("guesthouses", 1_000);
+		int roomsPerGuesthouse = options.getInt("roomsPerGuesthouse", 10);
+		int reservations = options.getInt("reservations", 100_000);
+		double reviewRatio = options.getDouble("reviewRatio", 0.3);
+		int reviewable = options.getInt("reviewable", 10_000);
+		Path datasetPath = Path.of(options.get("dataset", Dataset.DEFAULT_PATH.toString()));
+
+		try (Connection connection = DriverManager.getConnection(
+				options.get("jdbcUrl", "jdbc:mysql://localhost:3306/sdsdb?rewriteBatchedStatements=true"),
+				options.get("dbUser", "root"), options.get("dbPassword", ""))) {
+			connection.setAutoCommit(false);
+			DataGenerator generator = new DataGenerator(connection, options.getInt("seed", 42),
+					guesthouses * roomsPerGuesthouse);
+			generator.prepare(options.getBoolean("reset", false));
+
+			Dataset dataset = new Dataset(hosts, guests, guesthouses, roomsPerGuesthouse, reservations + 1,
+					reservations + reviewable, generator.today);
+			long started = System.nanoTime();
+			generator.insertUsers(dataset);
+			generator.insertGuesthouses(dataset);
+			generator.insertRooms(dataset);
+			generator.insertReservations(dataset, reservations, reviewRatio);
+			generator.insertReviewable(dataset);
+			generator.finish();
+			dataset.save(datasetPath);
+
+			System.out.printf("generated %d users, %d guesthouses, %d rooms, %d reservations in %.1fs -> %s%n",
+					hosts + guests, guesthouses, dataset.rooms(), reservations + reviewable,
+					(System.nanoTime() - started) / 1e9, datasetPath);
+		}
+	}
+
+	private void prepare(boolean reset) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			if (!reset) {
+				try (ResultSet rs = statement.executeQuery("select count(*) from users")) {
+					rs.next();
+					if (rs.getLong(1) > 0) {
+						throw new IllegalStateException("users 테이블에 데이터가 있습니다. 지우고 다시 만들려면 reset=true");
+					}
+				}
+				return;
+			}
+			// 외래키 순서대로 삭제
+			for (String table : new String[] { "review", "reservation", "room", "guesthouse", "image", "users" }) {
+				statement.executeUpdate("delete from " + table);
+			}
+			connection.commit();
+		}
+	}
+
+	private void insertUsers(Dataset dataset) throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement(
+				"insert into users (id, login_id, username, password, role, phone_number) values (?, ?, ?, ?, ?, ?)")) {
+			int total = dataset.hosts() + dataset.guests();
+			for (int id = 1; id <= total; id++) {
+				boolean host = id <= dataset.hosts();
+				insert.setInt(1, id);
+				insert.setString(2, (host ? "host" : "guest") + id);
+				insert.setString(3, (host ? "호스트" : "게스트") + id);
+				insert.setString(4, "password");
+				insert.setString(5, host ? "HOST" : "GUEST");
+				insert.setString(6, phoneNumber(id));
+				addBatch(insert, id);
+			}
+			flush(insert);
+		}
+	}
+
+	private void insertGuesthouses(Dataset dataset) throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement("insert into guesthouse (id, host_id, name, "
+				+ "description, address, rating, phone_number, photo_id, room_count, review_count, rating_sum) "
+				+ "values (?, ?, ?, ?, ?, 0, ?, null, ?, 0, 0)")) {
+			for (int id = 1; id <= dataset.guesthouses(); id++) {
+				String region = REGIONS[random.nextInt(REGIONS.length)];
+				insert.setInt(1, id);
+				insert.setInt(2, dataset.hostOf(id));
+				insert.setString(3, region.split(" ")[0] + " 게스트하우스 " + id);
+				insert.setString(4, "부하 테스트용 게스트하우스 " + id);
+				insert.setString(5, region + " " + (1 + random.nextInt(999)));
+				insert.setString(6, phoneNumber(id));
+				insert.setInt(7, dataset.roomsPerGuesthouse());
+				addBatch(insert, id);
+			}
+			flush(insert);
+		}
+	}
+
+	private void insertRooms(Dataset dataset) throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement(
+				"insert into room (id, guesthouse_id, name, capacity, price, photo_id) values (?, ?, ?, ?, ?, null)")) {
+			for (int id = 1; id <= dataset.rooms(); id++) {
+				capacities[id] = 2 + random.nextInt(5);
+				insert.setInt(1, id);
+				insert.setInt(2, dataset.guesthouseOf(id));
+				insert.setString(3, capacities[id] + "인실 " + id);
+				insert.setInt(4, capacities[id]);
+				insert.setInt(5, 20_000 + capacities[id] * 10_000 + random.nextInt(30) * 1_000);
+				addBatch(insert, id);
+			}
+			flush(insert);
+		}
+	}
+
+	/**
+	 * 지난 1년 ~ 앞으로 180일 사이에 예약을 배치한다. 오늘 이후 박이 있는 예약(오늘 전에 체크인해 아직 묵는 중인
+	 * 예약 포함)은 박별 인원이 정원을 넘지 않게 하고 (검색/예약 부하가 실제 점유율을 보도록),
+	 * 지난 예약 중 reviewRatio 만큼은 리뷰를 남긴다. 박별 인원은 오늘 - MAX_NIGHTS 부터 센다.
+	 */
+	private void insertReservations(Dataset dataset, int count, double reviewRatio) throws SQLException {
+		byte[][] futureNights = new byte[dataset.rooms() + 1][];
+		try (PreparedStatement reservation = connection.prepareStatement(RESERVATION_INSERT);
+				PreparedStatement review = connection.prepareStatement(REVIEW_INSERT)) {
+			int reviews = 0;
+			for (int id = 1; id <= count; id++) {
+				int roomId = 1 + random.nextInt(dataset.rooms());
+				int offset = random.nextInt(PAST_DAYS + FUTURE_DAYS) - PAST_DAYS;
+				int nights = 1 + random.nextInt(MAX_NIGHTS);
+				int people = 1 + random.nextInt(Math.min(capacities[roomId], 4));
+				if (offset + nights > 0) {
+					if (futureNights[roomId] == null) {
+						futureNights[roomId] = new byte[MAX_NIGHTS + FUTURE_DAYS + MAX_NIGHTS];
+					}
+					if (!reserve(futureNights[roomId], capacities[roomId], MAX_NIGHTS + offset, nights, people)) {
+						// 꽉 찬 박이면 지난 예약으로 대신 배치 (체크아웃이 오늘 이전이라 집계 대상이 아님)
+						offset = -MAX_NIGHTS - random.nextInt(PAST_DAYS - MAX_NIGHTS);
+					}
+				}
+				LocalDate checkIn = today.plusDays(offset);
+				LocalDate checkOut = checkIn.plusDays(nights);
+				bindReservation(reservation, id, dataset.guestId(random.nextInt(dataset.guests())), roomId, checkIn,
+						checkOut, people);
+				addBatch(reservation, id);
+
+				if (checkOut.isBefore(today) && random.nextDouble() < reviewRatio) {
+					reviews++;
+					review.setInt(1, reviews);
+					review.setInt(2, id);
+					review.setInt(3, rating());
+					review.setString(4, "리뷰 " + reviews);
+					review.setTimestamp(5, Timestamp.valueOf(checkOut.atTime(10, 0)));
+					review.addBatch();
+				}
+				// 리뷰는 참조하는 예약이 먼저 들어간 뒤에 전송
+				if (id % BATCH_SIZE == 0) {
+					review.executeBatch();
+				}
+			}
+			flush(reservation);
+			flush(review);
+		}
+	}
+
+	// 리뷰 작성 부하용: 체크아웃이 지났고 리뷰가 없는 예약 (게스트는 Dataset.guestOf 로 정해짐)
+	private void insertReviewable(Dataset dataset) throws SQLException {
+		try (PreparedStatement reservation = connection.prepareStatement(RESERVATION_INSERT)) {
+			for (int id = dataset.reviewableFrom(); id <= dataset.reviewableTo(); id++) {
+				int roomId = 1 + random.nextInt(dataset.rooms());
+				LocalDate checkIn = today.minusDays(MAX_NIGHTS + 1 + random.nextInt(PAST_DAYS - MAX_NIGHTS));
+				bindReservation(reservation, id, dataset.guestOf(id), roomId, checkIn, checkIn.plusDays(1), 1);
+				addBatch(reservation, id);
+			}
+			flush(reservation);
+		}
+	}
+
+	// 평점 집계와 pooled id 시작값 (V2, V4 와 같은 방식)
+	private void finish() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("""
+					update guesthouse g
+					    join (
+					        select rm.guesthouse_id, count(*) as review_count, sum(rv.rating) as rating_sum
+					        from review rv
+					        join reservation res on res.id = rv.reservation_id
+					        join room rm on rm.id = res.room_id
+					        group by rm.guesthouse_id
+					    ) agg on agg.guesthouse_id = g.id
+					set g.review_count = agg.review_count,
+					    g.rating_sum   = agg.rating_sum,
+					    g.rating       = round(agg.rating_sum / agg.review_count, 1)
+					""");
+			for (String table : new String[] { "guesthouse", "room", "reservation" }) {
+				statement.executeUpdate("delete from id_sequence where sequence_name = '" + table + "'");
+				statement.executeUpdate("insert into id_sequence (sequence_name, next_val) select '" + table
+						+ "', coalesce(max(id), 0) + 50 from " + table);
+			}
+		}
+		connection.commit();
+	}
+
+	private static void bindReservation(PreparedStatement insert, int id, int guestId, int roomId, LocalDate checkIn,
+			LocalDate checkOut, int people) throws SQLException {
+		insert.setInt(1, id);
+		insert.setInt(2, guestId);
+		insert.setInt(3, roomId);
+		insert.setDate(4, Date.valueOf(checkIn));
+		insert.setDate(5, Date.valueOf(checkOut));
+		insert.setInt(6, people);
+	}
+
+	private static boolean reserve(byte[] nights, int capacity, int from, int count, int people) {
+		for (int day = from; day < from + count; day++) {
+			if (nights[day] + people > capacity) {
+				return false;
+			}
+		}
+		for (int day = from; day < from + count; day++) {
+			nights[day] += people;
+		}
+		return true;
+	}
+
+	// 4~5점 위주 분포
+	private int rating() {
+		int roll = random.nextInt(10);
+		return roll < 5 ? 5 : roll < 8 ? 4 : 1 + random.nextInt(3);
+	}
+
+	private static String phoneNumber(int id) {
+		return String.format("010-%04d-%04d", id / 10_000 % 10_000, id % 10_000);
+	}
+
+	private void addBatch(PreparedStatement insert, int count) throws SQLException {
+		insert.addBatch();
+		if (count % BATCH_SIZE == 0) {
+			insert.executeBatch();
+			connection.commit();
+		}
+	}
+
+	private void flush(PreparedStatement insert) throws SQLException {
+		insert.executeBatch();
+		connection.commit();
+	}
+}
@@ -0,0 +1,75 @@
+package com.backend.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Properties;
+
+/**
+ * 생성한 데이터셋의 규모와 id 배치. DataGenerator 가 파일로 남기고 LoadTest 가 읽어 요청 대상을 고른다.
+ * - users: 호스트 1..hosts, 게스트 hosts+1..hosts+guests
+ * - guesthouse: 1..guesthouses, 객실 id = (게스트하우스 id - 1) * roomsPerGuesthouse + 1..roomsPerGuesthouse
+ * - 리뷰 작성용 예약: reviewableFrom..reviewableTo (체크아웃이 지났고 리뷰가 없는 예약, 게스트는 guestOf)
+ */
+record Dataset(int hosts, int guests, int guesthouses, int roomsPerGuesthouse, int reviewableFrom,
+		int reviewableTo, LocalDate generatedOn) {
+
+	static final Path DEFAULT_PATH = Path.of("build", "loadtest", "dataset.properties");
+
+	int rooms() {
+		return guesthouses * roomsPerGuesthouse;
+	}
+
+	int guestId(int index) {
+		return hosts + 1 + index % guests;
+	}
+
+	int hostOf(int guesthouseId) {
+		return 1 + (guesthouseId - 1) % hosts;
+	}
+
+	int guesthouseOf(int roomId) {
+		return (roomId - 1) / roomsPerGuesthouse + 1;
+	}
+
+	// 리뷰 작성용 예약의 게스트
+	int guestOf(int reservationId) {
+		return guestId(reservationId);
+	}
+
+	void save(Path path) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("hosts", String.valueOf(hosts));
+		properties.setProperty("guests", String.valueOf(guests));
+		properties.setProperty("guesthouses", String.valueOf(guesthouses));
+		properties.setProperty("rooms-per-guesthouse", String.valueOf(roomsPerGuesthouse));
+		properties.setProperty("reviewable-from", String.valueOf(reviewableFrom));
+		properties.setProperty("reviewable-to", String.valueOf(reviewableTo));
+		properties.setProperty("generated-on", generatedOn.toString());
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		try (Writer writer = Files.newBufferedWriter(path)) {
+			properties.store(writer, "load test dataset (DataGenerator)");
+		}
+	}
+
+	static Dataset load(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			throw new IllegalStateException("데이터셋 파일이 없습니다. 먼저 ./gradlew loadTestData 를 실행하세요: " + path);
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(path)) {
+			properties.load(reader);
+		}
+		return new Dataset(
+				Integer.parseInt(properties.getProperty("hosts")),
+				Integer.parseInt(properties.getProperty("guests")),
+				Integer.parseInt(properties.getProperty("guesthouses")),
+				Integer.parseInt(properties.getProperty("rooms-per-guesthouse")),
+				Integer.parseInt(properties.getProperty("reviewable-from")),
+				Integer.parseInt(properties.getProperty("reviewable-to")),
+				LocalDate.parse(properties.getProperty("generated-on")));
+	}
+}
@@ -0,0 +1,63 @@
+package com.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 요청 지연 기록. 가상 사용자(스레드)마다 하나씩 쓰고 끝난 뒤 merge 로 합치므로 동기화하지 않는다.
+ * 응답 분류: 2xx = ok, 4xx = rejected (정원 초과 예약, 이미 작성된 리뷰 등 정상적인 거절), 그 외/예외 = error.
+ */
+final class LatencyRecorder {
+	private long[] latencies = new long[1024];
+	private int count;
+	private long rejected;
+	private long errors;
+
+	void record(long nanos, int status) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, count * 2);
+		}
+		latencies[count++] = nanos;
+		if (status >= 400 && status < 500) {
+			rejected++;
+		} else if (status < 200 || status >= 300) {
+			errors++;
+		}
+	}
+
+	void merge(LatencyRecorder other) {
+		if (count + other.count > latencies.length) {
+			latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+		}
+		System.arraycopy(other.latencies, 0, latencies, count, other.count);
+		count += other.count;
+		rejected += other.rejected;
+		errors += other.errors;
+	}
+
+	// 이름, 요청 수, 초당 처리량, 거절/오류 수, p50/p95/p99/max (ms)
+	String summary(String name, double seconds) {
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+		return String.format(Locale.ROOT, "%-8s %9d %10.1f %8d %8d %9.1f %9.1f %9.1f %9.1f", name, count,
+				count / seconds, rejected, errors, millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+				millis(percentile(sorted, 0.99)), millis(count == 0 ? 0 : sorted[count - 1]));
+	}
+
+	static String header() {
+		return String.format(Locale.ROOT, "%-8s %9s %10s %8s %8s %9s %9s %9s %9s", "op", "requests", "req/s",
+				"rejected", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, index)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1e6;
+	}
+}
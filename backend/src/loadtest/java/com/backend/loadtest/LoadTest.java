@@ -0,0 +1,207 @@
+package com.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP 부하 테스트. 가상 사용자 수만큼 가상 스레드를 띄워 응답을 받는 즉시 다음 요청을 보내고(closed loop),
+ * 요청 종류는 mix 비율로 고른다. 워밍업 이후 구간의 종류별/전체 처리량과 지연 분포를 출력한다.
+ * 요청 대상(게스트하우스, 객실, 게스트, 리뷰 가능한 예약)은 DataGenerator 가 남긴 데이터셋 파일에서 고른다.
+ *
+ * <pre>
+ * ./gradlew loadTestData -Preset=true
+ * ./gradlew bootRun
+ * ./gradlew loadTest [-PbaseUrl=http://localhost:8080 -Pconcurrency=2000 -Pduration=60s -Pwarmup=10s
+ *     -Pmix=search:70,detail:20,reserve:8,review:2]
+ * </pre>
+ * 검색 캐시가 켜져 있으면 반복 검색 조건은 캐시에서 응답되므로, DB 경로를 재려면 서버를
+ * --app.search-cache.maximum-size=0 으로 띄운다. 플랫폼 스레드/가상 스레드 비교는 -Pmix=search:100 으로
+ * 서버를 --spring.threads.virtual.enabled=true 로 바꿔 한 번 더 실행한다 (두 실행의 커넥션 풀 크기는 같게).
+ * 예약/리뷰 요청은 데이터를 바꾸므로 반복 측정 전에는 loadTestData 로 다시 만든다.
+ */
+public final class LoadTest {
+	private static final int MAX_NIGHTS = 3;
+	private static final int MAX_PEOPLE = 4;
+	private static final int CHECK_IN_RANGE_DAYS = 60;
+
+	enum Operation {
+		SEARCH("search"), DETAIL("detail"), RESERVE("reserve"), REVIEW("review");
+
+		private final String key;
+
+		Operation(String key) {
+			this.key = key;
+		}
+
+		static Operation from(String key) {
+			for (Operation operation : values()) {
+				if (operation.key.equals(key)) {
+					return operation;
+				}
+			}
+			throw new IllegalArgumentException("알 수 없는 요청 종류: " + key);
+		}
+	}
+
+	private final HttpClient client;
+	private final String baseUrl;
+	private final Dataset dataset;
+	private final Operation[] mix;
+	// 리뷰 요청마다 아직 리뷰가 없는 예약을 하나씩 사용
+	private final AtomicInteger nextReviewable;
+
+	private LoadTest(HttpClient client, String baseUrl, Dataset dataset, Operation[] mix) {
+		this.client = client;
+		this.baseUrl = baseUrl;
+		this.dataset = dataset;
+		this.mix = mix;
+		this.nextReviewable = new AtomicInteger(dataset.reviewableFrom());
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestArgs options = new LoadTestArgs(args);
+		String baseUrl = options.get("baseUrl", "http://localhost:8080");
+		int concurrency = options.getInt("concurrency", 2000);
+		Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+		Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+		String mixSpec = options.get("mix", "search:70,detail:20,reserve:8,review:2");
+		Dataset dataset = Dataset.load(Path.of(options.get("dataset", Dataset.DEFAULT_PATH.toString())));
+
+		System.out.printf("load test: %s, %d concurrent, %s (+%s warmup), mix %s%n",
+				baseUrl, concurrency, duration, warmup, mixSpec);
+
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient client = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(10))
+					.executor(users)
+					.build();
+			LoadTest test = new LoadTest(client, baseUrl, dataset, parseMix(mixSpec));
+
+			long start = System.nanoTime();
+			long measureFrom = start + warmup.toNanos();
+			long measureTo = measureFrom + duration.toNanos();
+
+			List<Future<Map<Operation, LatencyRecorder>>> results = new ArrayList<>(concurrency);
+			for (int i = 0; i < concurrency; i++) {
+				results.add(users.submit(() -> test.runUser(measureFrom, measureTo)));
+			}
+
+			Map<Operation, LatencyRecorder> byOperation = new EnumMap<>(Operation.class);
+			LatencyRecorder total = new LatencyRecorder();
+			for (Future<Map<Operation, LatencyRecorder>> result : results) {
+				result.get().forEach((operation, recorder) -> {
+					byOperation.computeIfAbsent(operation, o -> new LatencyRecorder()).merge(recorder);
+					total.merge(recorder);
+				});
+			}
+
+			double seconds = duration.toNanos() / 1e9;
+			System.out.println(LatencyRecorder.header());
+			byOperation.forEach((operation, recorder) ->
+					System.out.println(recorder.summary(operation.key, seconds)));
+			System.out.println(total.summary("total", seconds));
+		}
+	}
+
+	// "search:70,detail:20" -> 비율만큼 반복한 배열에서 무작위 선택
+	private static Operation[] parseMix(String spec) {
+		List<Operation> weighted = new ArrayList<>();
+		for (String part : spec.split(",")) {
+			String[] pair = part.trim().split(":");
+			Operation operation = Operation.from(pair[0]);
+			int weight = Integer.parseInt(pair[1]);
+			for (int i = 0; i < weight; i++) {
+				weighted.add(operation);
+			}
+		}
+		if (weighted.isEmpty()) {
+			throw new IllegalArgumentException("mix 비율 합이 0 입니다: " + spec);
+		}
+		return weighted.toArray(new Operation[0]);
+	}
+
+	private Map<Operation, LatencyRecorder> runUser(long measureFrom, long measureTo) {
+		Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long now;
+		while ((now = System.nanoTime()) < measureTo) {
+			Operation operation = mix[random.nextInt(mix.length)];
+			HttpRequest request = request(operation, random);
+
+			int status;
+			try {
+				status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				status = -1;
+			}
+
+			long end = System.nanoTime();
+			if (now >= measureFrom && end <= measureTo) {
+				recorders.computeIfAbsent(operation, o -> new LatencyRecorder()).record(end - now, status);
+			}
+		}
+		return recorders;
+	}
+
+	private HttpRequest request(Operation operation, ThreadLocalRandom random) {
+		LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(CHECK_IN_RANGE_DAYS));
+		LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(MAX_NIGHTS));
+		int people = 1 + random.nextInt(MAX_PEOPLE);
+		int guestId = dataset.guestId(random.nextInt(dataset.guests()));
+
+		return switch (operation) {
+			case SEARCH -> get("/guesthouse/search?check_in=" + checkIn + "&check_out=" + checkOut
+					+ "&people=" + people, guestId);
+			case DETAIL -> get("/guesthouse/" + (1 + random.nextInt(dataset.guesthouses())), guestId);
+			case RESERVE -> post("/reservation", guestId, String.format(
+					"{\"room_id\":%d,\"check_in_date\":\"%s\",\"check_out_date\":\"%s\",\"people_count\":%d}",
+					1 + random.nextInt(dataset.rooms()), checkIn, checkOut, people));
+			case REVIEW -> {
+				// 리뷰 가능한 예약을 다 쓰면 이미 작성된 예약으로 요청해 거절(409)로 집계된다
+				int reservationId = nextReviewable.getAndIncrement();
+				if (reservationId > dataset.reviewableTo()) {
+					reservationId = dataset.reviewableFrom() + random.nextInt(
+							dataset.reviewableTo() - dataset.reviewableFrom() + 1);
+				}
+				yield post("/review", dataset.guestOf(reservationId), String.format(
+						"{\"reservation_id\":%d,\"rating\":%d,\"comment\":\"부하 테스트 리뷰\"}",
+						reservationId, 1 + random.nextInt(5)));
+			}
+		};
+	}
+
+	private HttpRequest get(String path, int userId) {
+		return builder(path, userId).GET().build();
+	}
+
+	private HttpRequest post(String path, int userId, String json) {
+		return builder(path, userId)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private HttpRequest.Builder builder(String path, int userId) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.header("user-id", String.valueOf(userId))
+				.timeout(Duration.ofSeconds(30));
+	}
+}
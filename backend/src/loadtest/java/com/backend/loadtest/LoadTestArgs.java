@@ -0,0 +1,50 @@
+package com.backend.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** "key=value" 형식의 명령행 인자. Gradle 태스크는 -Pkey=value 를 그대로 넘긴다. */
+final class LoadTestArgs {
+	private final Map<String, String> values = new HashMap<>();
+
+	LoadTestArgs(String[] args) {
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (eq <= 0) {
+				throw new IllegalArgumentException("key=value 형식이 아닙니다: " + arg);
+			}
+			values.put(arg.substring(0, eq), arg.substring(eq + 1));
+		}
+	}
+
+	String get(String key, String defaultValue) {
+		return values.getOrDefault(key, defaultValue);
+	}
+
+	int getInt(String key, int defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Integer.parseInt(value);
+	}
+
+	double getDouble(String key, double defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Double.parseDouble(value);
+	}
+
+	boolean getBoolean(String key, boolean defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+	// "60s", "2m", "PT1M" 형식
+	Duration getDuration(String key, Duration defaultValue) {
+		String value = values.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		String upper = value.toUpperCase(Locale.ROOT);
+		return Duration.parse(upper.startsWith("PT") ? upper : "PT" + upper);
+	}
+}
@@ -0,0 +1,31 @@
+package com.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate 2차 캐시(엔티티/컬렉션/쿼리) 설정.
+ * 영역별 크기와 만료는 classpath 의 application.conf(caffeine.jcache) 에 정의하며,
+ * 정의되지 않은 영역이 있으면 기동에 실패하도록 해 모든 영역이 제한을 갖게 한다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			properties.put("hibernate.javax.cache.provider", CaffeineCachingProvider.class.getName());
+			properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+			// 영역별 적중/미스/저장 통계. hibernate.second.level.cache.* {region=...} 메트릭은
+			// Boot 의 HibernateMetricsAutoConfiguration 이 hibernate-micrometer 로 바인딩한다.
+			properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+		};
+	}
+}
@@ -0,0 +1,50 @@
+package com.backend.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class ImageConfig {
+
+	/**
+	 * 업로드 파일 쓰기 전용 스레드 풀.
+	 * 디스크 동시 쓰기 수를 제한하고, 큐가 차면 요청 스레드가 직접 써서 자연스럽게 속도를 늦춘다.
+	 * 동시 실행 수 제한이 목적이므로 가상 스레드 모드(spring.threads.virtual.enabled)에서도 고정 풀로 둔다.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService imageWriteExecutor(@Value("${app.image.write-threads:4}") int threads,
+			@Value("${app.image.write-queue:256}") int queueSize) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueSize), new CustomizableThreadFactory("image-write-"),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * 업로드 후 썸네일/리사이즈 이미지 생성 (@Async("imageVariantExecutor")).
+	 * 이미지 디코딩은 CPU/메모리를 많이 쓰므로 스레드 수를 작게 두고, 큐가 차면 생성을 건너뛴다
+	 * (해당 사진은 원본으로 응답됨). CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 풀을 쓴다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageVariantExecutor(@Value("${app.image.variant-threads:2}") int threads,
+			@Value("${app.image.variant-queue:500}") int queueSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueSize);
+		executor.setThreadNamePrefix("image-variant-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		return executor;
+	}
+}
@@ -0,0 +1,42 @@
+package com.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.backend.entity.IdGenerators;
+
+/**
+ * JDBC 배치 INSERT/UPDATE 설정.
+ * 같은 엔티티의 INSERT 를 모아 보내도록 정렬하고, 한 번에 batchSize 건씩 전송한다.
+ * 배치는 IDENTITY 가 아닌 id(IdGenerators 참고)를 쓰는 엔티티에만 적용된다.
+ * MySQL 에서 여러 행 INSERT 로 합치려면 드라이버 속성 rewriteBatchedStatements=true 가 필요하다.
+ * <p>
+ * 테이블 id 발급기는 블록을 다 쓰면 발급기 모니터를 잡은 채 커넥션을 하나 더 받아 id_sequence 를 갱신한다.
+ * 발급기마다 동시에 한 트랜잭션이 리필할 수 있으므로 리필하는 트랜잭션들의 커넥션과 리필용 커넥션을 합쳐
+ * 2 * POOLED_GENERATORS 개는 있어야 리필끼리 커넥션을 기다리며 멈추지 않는다. 기동 시 이를 검사한다.
+ * 그 밖의 커넥션까지 모두 같은 발급기 모니터를 기다리는 트랜잭션에 잡혀 있으면 리필이 connection-timeout
+ * 까지 멈출 수 있으므로(Java 21 가상 스레드에서는 그동안 캐리어도 고정된다) 풀은 동시 쓰기 요청 수에
+ * POOLED_GENERATORS 만큼 여유를 더해 잡는다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+	static final int MIN_POOL_SIZE = 2 * IdGenerators.POOLED_GENERATORS;
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${app.jpa.batch-size:50}") int batchSize,
+			@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxPoolSize) {
+		if (maxPoolSize < MIN_POOL_SIZE) {
+			throw new IllegalStateException("spring.datasource.hikari.maximum-pool-size 는 테이블 id 발급기 리필 여유를 위해 "
+					+ MIN_POOL_SIZE + " 이상이어야 합니다: " + maxPoolSize);
+		}
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.put(AvailableSettings.ORDER_INSERTS, true);
+			properties.put(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+}
@@ -0,0 +1,47 @@
+package com.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * 서비스/저장소 지연 메트릭 설정. /actuator/prometheus 로 수집한다.
+ * - 서비스 메서드: @Timed (TimedAspect)
+ * - 저장소 메서드: Spring Boot 가 기록하는 spring.data.repository.invocations {repository, method, state}
+ * 두 메트릭 모두 Prometheus 에서 분위수를 계산할 수 있도록 히스토그램 버킷을 내보낸다.
+ */
+@Configuration
+public class MetricsConfig {
+	private static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
+	// 저장소 메서드 수만큼 시계열이 생기므로 버킷 범위를 1ms ~ 10s 로 제한
+	@Bean
+	public MeterFilter repositoryHistogramFilter() {
+		return new MeterFilter() {
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				if (!id.getName().equals(REPOSITORY_METRIC)) {
+					return config;
+				}
+				return DistributionStatisticConfig.builder()
+						.percentilesHistogram(true)
+						.minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+						.maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+						.build()
+						.merge(config);
+			}
+		};
+	}
+}
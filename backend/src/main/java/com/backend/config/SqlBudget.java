@@ -0,0 +1,18 @@
+package com.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드가 한 요청에서 실행할 수 있는 SQL 문장 수 상한.
+ * 지정하지 않은 엔드포인트는 app.sql-stats.default-budget 을 적용한다 (SqlStatementFilter).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+	int value();
+}
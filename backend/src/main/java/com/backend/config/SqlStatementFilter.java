@@ -0,0 +1,87 @@
+package com.backend.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 실행된 SQL 문장 수와 JDBC 시간을 기록하고 문장 수 예산(@SqlBudget)을 검사한다.
+ * - http.server.sql.statements {method, uri}: 요청당 문장 수
+ * - http.server.sql.time {method, uri}: 요청당 JDBC 실행 시간
+ * - http.server.sql.budget.exceeded {method, uri}: 예산 초과 횟수
+ * failOnBudget 이면 예산 초과 시 예외를 던져 테스트를 실패시키고, 아니면 경고 로그만 남긴다.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+	private final MeterRegistry meterRegistry;
+	private final int defaultBudget;
+	private final boolean failOnBudget;
+
+	public SqlStatementFilter(MeterRegistry meterRegistry, int defaultBudget, boolean failOnBudget) {
+		this.meterRegistry = meterRegistry;
+		this.defaultBudget = defaultBudget;
+		this.failOnBudget = failOnBudget;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		SqlStatementStats.Snapshot stats;
+		SqlStatementStats.begin();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			stats = SqlStatementStats.end();
+		}
+		record(request, stats);
+	}
+
+	private void record(HttpServletRequest request, SqlStatementStats.Snapshot stats) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+		String method = request.getMethod();
+
+		DistributionSummary.builder("http.server.sql.statements")
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.record(stats.statements());
+		Timer.builder("http.server.sql.time")
+				.tags("method", method, "uri", uri)
+				.register(meterRegistry)
+				.record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+		int budget = budgetOf(request);
+		if (stats.statements() <= budget) {
+			return;
+		}
+		meterRegistry.counter("http.server.sql.budget.exceeded", "method", method, "uri", uri).increment();
+		String message = String.format("SQL 문장 수 예산 초과: %s %s -> %d개 (예산 %d)",
+				method, uri, stats.statements(), budget);
+		if (failOnBudget) {
+			throw new IllegalStateException(message);
+		}
+		log.warn(message);
+	}
+
+	private int budgetOf(HttpServletRequest request) {
+		if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+			SqlBudget budget = handler.getMethodAnnotation(SqlBudget.class);
+			if (budget != null) {
+				return budget.value();
+			}
+		}
+		return defaultBudget;
+	}
+}
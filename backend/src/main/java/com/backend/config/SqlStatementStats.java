@@ -0,0 +1,89 @@
+package com.backend.config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드 단위 SQL 실행 통계 (문장 수, JDBC 실행 시간).
+ * SqlStatementFilter 가 요청 시작/끝에 begin/end 를 호출하고, 그 사이 같은 스레드에서 실행된 SQL 만 집계한다.
+ * StreamingResponseBody 처럼 다른 스레드에서 실행되는 조회는 포함되지 않는다.
+ */
+public final class SqlStatementStats {
+	private static final ThreadLocal<Snapshot> CURRENT = new ThreadLocal<>();
+
+	/** 집계 값. 요청 스레드 하나에서만 갱신한다. */
+	public static final class Snapshot {
+		private int statements;
+		private long jdbcNanos;
+
+		public int statements() {
+			return statements;
+		}
+
+		public long jdbcNanos() {
+			return jdbcNanos;
+		}
+	}
+
+	private SqlStatementStats() {
+	}
+
+	public static void begin() {
+		CURRENT.set(new Snapshot());
+	}
+
+	public static Snapshot end() {
+		Snapshot snapshot = CURRENT.get();
+		CURRENT.remove();
+		return snapshot == null ? new Snapshot() : snapshot;
+	}
+
+	/** 진행 중인 요청의 현재 값 (요청 밖이면 null). */
+	public static Snapshot current() {
+		return CURRENT.get();
+	}
+
+	/** Hibernate 가 준비하는 모든 SQL 문장 수 (hibernate.session_factory.statement_inspector). */
+	public static final class Inspector implements StatementInspector {
+		@Override
+		public String inspect(String sql) {
+			Snapshot snapshot = CURRENT.get();
+			if (snapshot != null) {
+				snapshot.statements++;
+			}
+			return sql;
+		}
+	}
+
+	/** 세션별 JDBC 실행 시간 (hibernate.session.events.auto, 세션마다 새 인스턴스). */
+	public static final class JdbcTimer extends BaseSessionEventListener {
+		private long startedAt;
+
+		@Override
+		public void jdbcExecuteStatementStart() {
+			startedAt = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteStatementEnd() {
+			add(System.nanoTime() - startedAt);
+		}
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			startedAt = System.nanoTime();
+		}
+
+		@Override
+		public void jdbcExecuteBatchEnd() {
+			add(System.nanoTime() - startedAt);
+		}
+
+		private static void add(long nanos) {
+			Snapshot snapshot = CURRENT.get();
+			if (snapshot != null) {
+				snapshot.jdbcNanos += nanos;
+			}
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 요청당 SQL 문장 수/JDBC 시간 집계 (SqlStatementStats, SqlStatementFilter).
+ * N+1 조회처럼 데이터 건수에 비례해 문장이 늘어나는 경로를 메트릭과 예산 초과 경고로 드러낸다.
+ * 테스트에서는 app.sql-stats.fail-on-budget=true 로 예산 초과 시 요청을 실패시킨다 (SqlBudgetEndpointTest).
+ */
+@Configuration
+public class SqlStatsConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer sqlStatsCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementStats.Inspector());
+			properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementStats.JdbcTimer.class.getName());
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MeterRegistry meterRegistry,
+			@Value("${app.sql-stats.default-budget:20}") int defaultBudget,
+			@Value("${app.sql-stats.fail-on-budget:false}") boolean failOnBudget) {
+		FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+				new SqlStatementFilter(meterRegistry, defaultBudget, failOnBudget));
+		registration.addUrlPatterns("/*");
+		return registration;
+	}
+}
@@ -0,0 +1,41 @@
+package com.backend.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전까지 실행된 SQL 문장 수/JDBC 시간을 응답 헤더로 노출 (개발/테스트용, 운영 프로필에서는 끔).
+ * 헤더는 본문보다 먼저 전송되므로 본문 직렬화 중 지연 로딩으로 실행되는 SQL 은 포함되지 않는다.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.sql-stats.response-headers", havingValue = "true", matchIfMissing = true)
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+	static final String STATEMENTS_HEADER = "X-Sql-Statements";
+	static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		SqlStatementStats.Snapshot stats = SqlStatementStats.current();
+		if (stats != null) {
+			response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+			response.getHeaders().set(TIME_HEADER,
+					String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos())));
+		}
+		return body;
+	}
+}
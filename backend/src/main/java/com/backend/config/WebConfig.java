@@ -1,15 +1,32 @@
 package com.backend.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.CacheControl;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 예약 내보내기처럼 오래 걸리는 스트리밍 응답이 기본 비동기 타임아웃(30초)에 끊기지 않도록
+    @Value("${app.mvc.async-timeout:30m}")
+    private Duration asyncTimeout;
+
+    @Value("${app.mvc.async-threads:8}")
+    private int asyncThreads;
+
+    // 가상 스레드 실행 모드 (Tomcat 요청 처리는 Spring Boot 가 같은 설정으로 전환)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 경로에 대해 CORS 허용
@@ -18,12 +35,33 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true); // 모든 헤더 허용	
     }
-    
+
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:///C:/upload/")
-                .setCacheControl(CacheControl.noCache().mustRevalidate())
-                .resourceChain(false);
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+    }
+
+    /**
+     * StreamingResponseBody 를 쓰는 스레드 풀. 지정하지 않으면 요청마다 새 스레드를 만든다.
+     * 동시 내보내기 수만큼 DB 커넥션을 오래 잡으므로 동시 실행 수를 작게 둔다.
+     * 가상 스레드 모드에서는 작업마다 가상 스레드를 쓰고 동시 실행 수만 같은 값으로 제한한다.
+     */
+    @Bean
+    public AsyncTaskExecutor mvcAsyncExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(asyncThreads);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncThreads);
+        executor.setMaxPoolSize(asyncThreads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
     }
+
+    // /images/** 는 ImageServeController 가 app.upload-root 기준으로 응답 (ETag, Range, 장기 캐시)
 }
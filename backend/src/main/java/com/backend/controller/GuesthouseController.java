@@ -1,15 +1,29 @@
 package com.backend.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.backend.dto.request.GuestHouseCreateRequest;
+import com.backend.dto.request.ReservationExportFormat;
 import com.backend.dto.response.GuesthouseListItemDto;
+import com.backend.dto.response.ImportResultDto;
 import com.backend.dto.response.ReservationListItemDto;
+import com.backend.dto.response.ReservationPageDto;
 import com.backend.dto.response.SuccessResponse;
+import com.backend.service.GuesthouseImportService;
 import com.backend.service.GuesthouseService;
+import com.backend.service.ReservationExportService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,17 +33,26 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/guesthouse")
+@Validated
 @Tag(name = "Guesthouse API", description = "게스트하우스 관리 API")
 @RequiredArgsConstructor
 public class GuesthouseController {
 
 	private final GuesthouseService guesthouseService;
 
+	private final ReservationExportService reservationExportService;
+
+	private final GuesthouseImportService guesthouseImportService;
+
 	// ---------------------------------------------------------
 	// 1) 게스트하우스 생성
 	// ---------------------------------------------------------
@@ -97,7 +120,7 @@ public class GuesthouseController {
 	// ---------------------------------------------------------
 	// 4) 게스트하우스 예약 목록 조회
 	// ---------------------------------------------------------
-	@Operation(summary = "게스트하우스 예약 목록 조회", description = "특정 게스트하우스에 대한 예약 목록을 조회합니다. 호스트 본인의 게스트하우스만 조회할 수 있습니다.", responses = {
+	@Operation(summary = "게스트하우스 예약 목록 조회", description = "특정 게스트하우스에 대한 예약 목록을 체크인 순으로 조회합니다. from/to 를 주면 그 기간과 겹치는 예약만 반환합니다. 호스트 본인의 게스트하우스만 조회할 수 있습니다.", responses = {
 			@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ReservationListItemDto.class))),
 			@ApiResponse(responseCode = "403", description = "소유자가 아님 / 권한 없음", content = @Content),
 			@ApiResponse(responseCode = "404", description = "게스트하우스가 존재하지 않음", content = @Content) })
@@ -105,8 +128,77 @@ public class GuesthouseController {
 	public ResponseEntity<List<ReservationListItemDto>> getReservationsByGuesthouse(
 			@Parameter(name = "guesthouseId", description = "게스트하우스 ID", required = true, example = "1", schema = @Schema(type = "integer", format = "int32")) @PathVariable("guesthouseId") Integer guesthouseId,
 
+			@Parameter(name = "from", description = "이 날짜 이후까지 묵는 예약만 (체크아웃 > from, YYYY-MM-DD)", example = "2025-09-01", schema = @Schema(type = "string", format = "date")) @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+			@Parameter(name = "to", description = "이 날짜 전에 체크인하는 예약만 (체크인 < to, YYYY-MM-DD)", example = "2025-10-01", schema = @Schema(type = "string", format = "date")) @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
 			@Parameter(name = "user-id", in = ParameterIn.HEADER, required = true, description = "호스트 사용자 ID", example = "1", schema = @Schema(type = "integer", format = "int32")) @RequestHeader("user-id") Integer hostId) {
-		var list = guesthouseService.getReservationsByGuesthouse(guesthouseId, hostId);
+		var list = guesthouseService.getReservationsByGuesthouse(guesthouseId, hostId, from, to);
 		return ResponseEntity.ok(list);
 	}
+
+	@Operation(summary = "게스트하우스 예약 목록 조회 (페이지)", description = "기간 조건은 /reservations 와 같고, 체크인 순 커서 기반 페이지네이션을 지원합니다. 응답의 next_cursor 를 다음 요청의 cursor 로 전달하며, 마지막 페이지면 null 입니다.", responses = {
+			@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ReservationPageDto.class))),
+			@ApiResponse(responseCode = "400", description = "잘못된 기간 / 커서", content = @Content),
+			@ApiResponse(responseCode = "403", description = "소유자가 아님 / 권한 없음", content = @Content),
+			@ApiResponse(responseCode = "404", description = "게스트하우스가 존재하지 않음", content = @Content) })
+	@GetMapping("/{guesthouseId}/reservations/page")
+	public ResponseEntity<ReservationPageDto> getReservationPage(
+			@Parameter(name = "guesthouseId", description = "게스트하우스 ID", required = true, example = "1", schema = @Schema(type = "integer", format = "int32")) @PathVariable("guesthouseId") Integer guesthouseId,
+
+			@Parameter(name = "from", description = "이 날짜 이후까지 묵는 예약만 (체크아웃 > from, YYYY-MM-DD)", example = "2025-09-01", schema = @Schema(type = "string", format = "date")) @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+			@Parameter(name = "to", description = "이 날짜 전에 체크인하는 예약만 (체크인 < to, YYYY-MM-DD)", example = "2025-10-01", schema = @Schema(type = "string", format = "date")) @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+
+			@Parameter(name = "size", description = "페이지 크기 (기본값 20, 최대 100)", example = "20", schema = @Schema(type = "integer", format = "int32", minimum = "1", maximum = "100")) @RequestParam(name = "size", required = false) @Min(1) @Max(100) Integer size,
+
+			@Parameter(name = "cursor", description = "이전 응답의 next_cursor (첫 페이지는 생략)") @RequestParam(name = "cursor", required = false) String cursor,
+
+			@Parameter(name = "user-id", in = ParameterIn.HEADER, required = true, description = "호스트 사용자 ID", example = "1", schema = @Schema(type = "integer", format = "int32")) @RequestHeader("user-id") Integer hostId) {
+		if (size == null) size = 20;
+		return ResponseEntity.ok(guesthouseService.getReservationPage(guesthouseId, hostId, from, to, size, cursor));
+	}
+
+	// ---------------------------------------------------------
+	// 5) 게스트하우스 예약 내보내기
+	// ---------------------------------------------------------
+	@Operation(summary = "게스트하우스 예약 내보내기", description = "특정 게스트하우스의 전체 예약을 체크인 순으로 CSV 또는 NDJSON(한 줄에 예약 1건) 파일로 내려받습니다. 예약 수와 관계없이 서버 메모리에 모으지 않고 스트리밍합니다.", responses = {
+			@ApiResponse(responseCode = "200", description = "내보내기 성공", content = {
+					@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson") }),
+			@ApiResponse(responseCode = "400", description = "지원하지 않는 형식", content = @Content),
+			@ApiResponse(responseCode = "403", description = "소유자가 아님 / 권한 없음", content = @Content),
+			@ApiResponse(responseCode = "404", description = "게스트하우스가 존재하지 않음", content = @Content) })
+	@GetMapping("/{guesthouseId}/reservations/export")
+	public ResponseEntity<StreamingResponseBody> exportReservations(
+			@Parameter(name = "guesthouseId", description = "게스트하우스 ID", required = true, example = "1", schema = @Schema(type = "integer", format = "int32")) @PathVariable("guesthouseId") Integer guesthouseId,
+
+			@Parameter(name = "format", description = "csv(기본) / ndjson", example = "csv", schema = @Schema(type = "string", allowableValues = { "csv", "ndjson" })) @RequestParam(name = "format", required = false) String format,
+
+			@Parameter(name = "user-id", in = ParameterIn.HEADER, required = true, description = "호스트 사용자 ID", example = "1", schema = @Schema(type = "integer", format = "int32")) @RequestHeader("user-id") Integer hostId) {
+		ReservationExportFormat exportFormat = ReservationExportFormat.from(format);
+		// 응답 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 소유 검증을 먼저 한다.
+		guesthouseService.verifyOwner(guesthouseId, hostId);
+
+		StreamingResponseBody body = out -> reservationExportService.export(guesthouseId, exportFormat, out);
+		String filename = "reservations-" + guesthouseId + "." + exportFormat.getValue();
+		return ResponseEntity.ok()
+				.contentType(exportFormat.getMediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename(filename).build().toString())
+				.body(body);
+	}
+
+	// ---------------------------------------------------------
+	// 6) 게스트하우스 일괄 등록
+	// ---------------------------------------------------------
+	@Operation(summary = "게스트하우스 일괄 등록", description = "한 줄에 게스트하우스 생성 요청 1건(POST /guesthouse 와 같은 JSON)인 NDJSON 을 받아 헤더의 호스트 소유로 등록합니다. 입력을 한 줄씩 처리하며 결과도 한 줄에 1건({line, success, id | error}) NDJSON 으로 스트리밍합니다. 실패한 줄은 건너뛰고 나머지는 계속 등록합니다.", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "NDJSON (application/x-ndjson)", required = true, content = @Content(mediaType = "application/x-ndjson")), responses = {
+			@ApiResponse(responseCode = "200", description = "처리 결과", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ImportResultDto.class))) })
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public void importGuesthouses(
+			@Parameter(name = "user-id", in = ParameterIn.HEADER, required = true, description = "호스트 사용자 ID", example = "1", schema = @Schema(type = "integer", format = "int32")) @RequestHeader("user-id") Integer hostId,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		guesthouseImportService.importNdjson(hostId, request.getInputStream(), response.getOutputStream());
+	}
 }
@@ -3,12 +3,16 @@ package com.backend.controller;
 import java.time.LocalDate;
 import java.util.List;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.backend.config.SqlBudget;
+import com.backend.dto.request.GuesthouseSearchSort;
 import com.backend.dto.response.GuesthouseResponseDto;
+import com.backend.dto.response.GuesthouseSearchPageDto;
 import com.backend.service.GuesthouseListService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +37,7 @@ public class GuesthouseListController {
         summary = "게스트하우스 검색",
         description = "체크인/체크아웃, 인원수, 이름(부분일치)로 게스트하우스를 검색합니다. 파라미터는 모두 선택이며 기본값이 적용됩니다."
     )
+    @SqlBudget(1)
     @GetMapping("/search")
     public List<GuesthouseResponseDto> searchGuesthouses(
             @Parameter(
@@ -85,4 +90,87 @@ public class GuesthouseListController {
 
         return guesthouseListService.searchGuesthouses(userId, checkIn, checkOut, name, people);
     }
+
+    @Operation(
+        summary = "게스트하우스 검색 (페이지)",
+        description = "검색 조건은 /search 와 같고, 정렬(sort)과 커서 기반 페이지네이션을 지원합니다. "
+                + "응답의 next_cursor 를 다음 요청의 cursor 로 전달하며, 마지막 페이지면 null 입니다."
+    )
+    @SqlBudget(2)
+    @GetMapping("/search/page")
+    public GuesthouseSearchPageDto searchGuesthousePage(
+            @Parameter(
+                name = "check_in",
+                description = "체크인 날짜 (YYYY-MM-DD). 미입력 시 오늘 날짜",
+                example = "2025-09-10",
+                schema = @Schema(type = "string", format = "date")
+            )
+            @RequestParam(name = "check_in", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+
+            @Parameter(
+                name = "check_out",
+                description = "체크아웃 날짜 (YYYY-MM-DD). 미입력 시 check_in + 1일",
+                example = "2025-09-12",
+                schema = @Schema(type = "string", format = "date")
+            )
+            @RequestParam(name = "check_out", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+
+            @Parameter(
+                name = "name",
+                description = "게스트하우스 이름(부분검색)",
+                example = "제주"
+            )
+            @RequestParam(name = "name", required = false) String name,
+
+            @Parameter(
+                name = "people",
+                description = "인원 수 (기본값 1)",
+                example = "2",
+                schema = @Schema(type = "integer", format = "int32", minimum = "1")
+            )
+            @RequestParam(name = "people", required = false) @Min(1) Integer people,
+
+            @Parameter(
+                name = "sort",
+                description = "정렬 기준: id(기본, 오름차순) / min_price(최저가 오름차순) / rating(평점 내림차순)",
+                example = "min_price",
+                schema = @Schema(type = "string", allowableValues = {"id", "min_price", "rating"})
+            )
+            @RequestParam(name = "sort", required = false) String sort,
+
+            @Parameter(
+                name = "size",
+                description = "페이지 크기 (기본값 20, 최대 100)",
+                example = "20",
+                schema = @Schema(type = "integer", format = "int32", minimum = "1", maximum = "100")
+            )
+            @RequestParam(name = "size", required = false) @Min(1) @Max(100) Integer size,
+
+            @Parameter(
+                name = "cursor",
+                description = "이전 응답의 next_cursor (첫 페이지는 생략)"
+            )
+            @RequestParam(name = "cursor", required = false) String cursor,
+
+            @Parameter(
+                name = "user-id",
+                in = ParameterIn.HEADER,
+                required = true,
+                description = "요청 사용자(호스트/게스트) ID",
+                example = "1",
+                schema = @Schema(type = "integer", format = "int32")
+            )
+            @RequestHeader("user-id") Integer userId
+    ) {
+        // 기본값 처리
+        if (checkIn == null) checkIn = LocalDate.now();
+        if (checkOut == null) checkOut = checkIn.plusDays(1);
+        if (people == null) people = 1;
+        if (size == null) size = 20;
+
+        return guesthouseListService.searchGuesthousePage(
+                checkIn, checkOut, name, people, GuesthouseSearchSort.from(sort), size, cursor);
+    }
 }
@@ -0,0 +1,56 @@
+package com.backend.controller;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.backend.entity.PhotoKind;
+import com.backend.service.ImageFileService;
+import com.backend.service.ImageResponseWriter;
+import com.backend.service.ImageVariantService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class ImageServeController {
+	private final ImageFileService imageFileService;
+	private final ImageVariantService imageVariantService;
+	private final ImageResponseWriter imageResponseWriter;
+
+	/**
+	 * 업로드된 사진 조회. w 를 주면 해당 폭 이상인 리사이즈 이미지 중 가장 작은 것을 응답한다.
+	 * 예: /images/rooms/12.png?w=480 -> blobs/ab/cd/{해시}_w480.png (없으면 원본)
+	 * ETag/304, Range, 장기 캐시 헤더는 ImageResponseWriter 참고.
+	 */
+	@Operation(summary = "사진 조회 (w: 원하는 폭, 선택)")
+	@GetMapping("/images/{directory}/{photoId:\\d+}.png")
+	public void getImage(@PathVariable String directory, @PathVariable int photoId,
+			@RequestParam(name = "w", required = false) Integer width,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		PhotoKind kind = PhotoKind.fromDirectory(directory).orElse(null);
+		if (kind == null) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+
+		Path original = imageFileService.locate(kind, photoId).orElse(null);
+		if (original == null) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		Path file = imageVariantService.resolve(original, width);
+
+		// 폭을 요청했는데 원본으로 대체한 경우는 나중에 variant 로 바뀔 수 있으므로 immutable 로 두지 않는다.
+		boolean immutable = width == null || !file.equals(original);
+		imageResponseWriter.write(file, immutable, request, response);
+	}
+}
@@ -3,10 +3,14 @@ package com.backend.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import com.backend.config.SqlBudget;
 import com.backend.dto.request.ReservationRequest;
 import com.backend.dto.response.ReservationResponse;
 import com.backend.service.ReservationService;
@@ -17,11 +21,14 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.media.*;
 import io.swagger.v3.oas.annotations.responses.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/reservation")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Reservation API", description = "예약 생성/조회/취소")
 public class ReservationController {
 
@@ -72,7 +79,8 @@ public class ReservationController {
 
     @Operation(
         summary = "내 예약 목록 조회",
-        description = "헤더의 `user-id` 기준으로 본인의 예약 목록을 반환합니다."
+        description = "헤더의 `user-id` 기준으로 본인의 예약 목록을 최근 체크인 순으로 반환합니다. "
+                + "size 를 주면 page(0부터) 번째 페이지만 반환하고, 생략하면 전체를 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -96,6 +104,7 @@ public class ReservationController {
         )
     })
     
+    @SqlBudget(1)
     @GetMapping("/my")
     public ResponseEntity<List<ReservationResponse>> getMyReservations(
         @Parameter(
@@ -103,9 +112,19 @@ public class ReservationController {
             description = "요청 사용자 ID", example = "5",
             schema = @Schema(type = "integer", format = "int32")
         )
-        @RequestHeader("user-id") Integer userId
+        @RequestHeader("user-id") Integer userId,
+
+        @Parameter(description = "페이지 번호 (0부터, 기본값 0)", example = "0")
+        @RequestParam(name = "page", required = false) @Min(0) Integer page,
+
+        @Parameter(
+            description = "페이지 크기 (최대 100, 생략하면 전체)", example = "20",
+            schema = @Schema(type = "integer", format = "int32", minimum = "1", maximum = "100")
+        )
+        @RequestParam(name = "size", required = false) @Min(1) @Max(100) Integer size
     ) {
-        List<ReservationResponse> reservations = reservationService.getMyReservations(userId);
+        Pageable pageable = size == null ? Pageable.unpaged() : PageRequest.of(page == null ? 0 : page, size);
+        List<ReservationResponse> reservations = reservationService.getMyReservations(userId, pageable);
         return ResponseEntity.ok(reservations);
     }
 
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import com.backend.config.SqlBudget;
 import com.backend.dto.request.GuestHouseDetailRequest;
 import com.backend.dto.request.RoomResponseRequest;
 import com.backend.dto.response.ReviewResponse;
@@ -20,7 +21,9 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Controller
 @ResponseBody
 @RequestMapping("/guesthouse")
@@ -91,7 +94,7 @@ public class ReservationInfoController {
         )
         @RequestParam(value = "room_available", required = false) List<Integer> roomAvailable
     ) {
-    	System.out.println("room: " + roomAvailable);
+        log.debug("room: {}", roomAvailable);
         var response = reservationInfoService.getGuestHouseRooms(guesthouseId, roomAvailable);
         return ResponseEntity.ok(response);
     }
@@ -108,6 +111,7 @@ public class ReservationInfoController {
             @ApiResponse(responseCode = "404", description = "해당 게스트하우스가 존재하지 않음", content = @Content)
         }
     )
+    @SqlBudget(2)
     @GetMapping("{guesthouse_Id}/reviews")
     public ResponseEntity<List<ReviewResponse>> getReview(
         @Parameter(
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
 
+import com.backend.config.SqlBudget;
 import com.backend.dto.request.ReviewCreateRequest;
 import com.backend.dto.request.ReviewUpdateRequest;
 import com.backend.dto.response.ReviewResponseDto;
@@ -194,6 +195,7 @@ public class ReviewController {
     }
 	
     // 리뷰 단건 조회
+	@SqlBudget(1)
 	@GetMapping("/{reviewId}")
 	public ResponseEntity<?> getReview(
 			@RequestHeader("user-id") Integer userId, 
@@ -24,7 +24,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequestMapping("/user")
 @Tag(name = "User API", description = "사용자 회원가입/로그인/조회 API")
@@ -127,7 +129,7 @@ public class UserController {
     )
     @PostMapping("/login")
     public ResponseEntity<UserInfoDto> login(@Valid @RequestBody LoginRequest request) {
-        System.out.println("LOGIN >>> loginId=" + request.getLoginId() + ", pw=" + request.getPassword());
+        log.debug("LOGIN >>> loginId={}", request.getLoginId());
 
         User user = userService.login(request.getLoginId(), request.getPassword());
         return ResponseEntity.ok(new UserInfoDto(
@@ -0,0 +1,29 @@
+package com.backend.dto.request;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 게스트하우스 검색 정렬 기준 (쿼리 파라미터 값: id, min_price, rating)
+public enum GuesthouseSearchSort {
+    ID("id"),
+    MIN_PRICE("min_price"),
+    RATING("rating");
+
+    private final String value;
+
+    GuesthouseSearchSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static GuesthouseSearchSort from(String value) {
+        if (value == null) return ID;
+        for (GuesthouseSearchSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(value)) return sort;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + value);
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.dto.request;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+// 예약 내보내기 형식 (쿼리 파라미터 값: csv, ndjson)
+public enum ReservationExportFormat {
+    CSV("csv", new MediaType("text", "csv")),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ReservationExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ReservationExportFormat from(String value) {
+        if (value == null) return CSV;
+        for (ReservationExportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) return format;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GuesthouseSearchPageDto {
+    private List<GuesthouseResponseDto> items;
+    private String nextCursor; // 마지막 페이지면 null
+}
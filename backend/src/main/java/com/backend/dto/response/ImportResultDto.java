@@ -0,0 +1,21 @@
+package com.backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일괄 등록 결과 (입력 한 줄당 한 건, NDJSON 으로 응답)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResultDto {
+    private Integer line;    // 입력 줄 번호 (1부터)
+    private Boolean success;
+    private Integer id;      // 생성된 게스트하우스 id (성공 시)
+    private String error;    // 실패 사유
+}
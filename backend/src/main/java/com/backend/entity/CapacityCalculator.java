@@ -0,0 +1,56 @@
+package com.backend.entity;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 기간 내 박(night)별 동시 투숙 인원의 최댓값 계산.
+ * 겹치는 예약 인원을 단순 합산하면 서로 겹치지 않는 예약까지 더해지므로
+ * 체크인(+)/체크아웃(-) 이벤트를 날짜순으로 훑는 sweep line 으로 한 번에 최대 점유를 구한다.
+ */
+public final class CapacityCalculator {
+	private static final long START = 1L << 32;
+
+	private CapacityCalculator() {
+	}
+
+	/** [checkIn, checkOut) 중 가장 붐비는 박의 예약 인원. */
+	public static int peakOccupancy(Collection<? extends Stay> stays, LocalDate checkIn, LocalDate checkOut) {
+		long from = checkIn.toEpochDay();
+		long to = checkOut.toEpochDay();
+
+		// 이벤트 = (기간 시작 기준 일자 << 33) | (체크인이면 1 << 32) | 인원
+		// 같은 날에는 체크아웃(0)이 체크인(1)보다 먼저 정렬되어 당일 체크아웃/체크인은 겹치지 않는다.
+		long[] events = new long[stays.size() * 2];
+		int n = 0;
+		for (Stay stay : stays) {
+			long start = Math.max(stay.getCheckInDate().toEpochDay(), from);
+			long end = Math.min(stay.getCheckOutDate().toEpochDay(), to);
+			if (start >= end || stay.getPeopleCount() == null || stay.getPeopleCount() <= 0) {
+				continue;
+			}
+			events[n++] = ((start - from) << 33) | START | stay.getPeopleCount();
+			events[n++] = ((end - from) << 33) | stay.getPeopleCount();
+		}
+		Arrays.sort(events, 0, n);
+
+		int current = 0;
+		int peak = 0;
+		for (int i = 0; i < n; i++) {
+			int people = (int) (events[i] & 0xFFFFFFFFL);
+			if ((events[i] & START) != 0) {
+				current += people;
+				peak = Math.max(peak, current);
+			} else {
+				current -= people;
+			}
+		}
+		return peak;
+	}
+
+	public static boolean canAccommodate(int capacity, Collection<? extends Stay> stays, LocalDate checkIn,
+			LocalDate checkOut, int people) {
+		return capacity - peakOccupancy(stays, checkIn, checkOut) >= people;
+	}
+}
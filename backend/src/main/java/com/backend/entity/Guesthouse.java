@@ -4,16 +4,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,14 +27,21 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "guesthouse")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "guesthouse", indexes = {
+        @Index(name = "idx_guesthouse_host", columnList = "host_id, name, rating, room_count, photo_id"),
+        @Index(name = "idx_guesthouse_name", columnList = "name") })
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Getter
 public class Guesthouse {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "guesthouse_id")
+    @TableGenerator(name = "guesthouse_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "guesthouse",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,6 +59,15 @@ public class Guesthouse {
 
     @Column(nullable = false)
     private Double rating;
+
+    // 평점 집계: rating = round(ratingSum / reviewCount, 1). 리뷰 작성/수정/삭제 시 applyReviewDelta 로 증감
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Column(name = "rating_sum", nullable = false)
+    @Builder.Default
+    private Integer ratingSum = 0;
     
     @Column(name = "phone_number", nullable = false, length = 20)
     private String phoneNumber;
@@ -58,6 +80,7 @@ public class Guesthouse {
     
     // Relationships
     @OneToMany(mappedBy = "guesthouse", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private List<Room> roomList = new ArrayList<>();
     
@@ -69,4 +92,11 @@ public class Guesthouse {
     public void updateRating(Double newRating) {
     		this.rating = newRating;
     }
+    
+    // 리뷰 평점 합계/개수를 증감하고 평균 평점을 다시 계산 (행 잠금을 잡은 엔티티에서 호출)
+    public void applyReviewDelta(int sumDelta, int countDelta) {
+    		this.ratingSum += sumDelta;
+    		this.reviewCount += countDelta;
+    		this.rating = reviewCount > 0 ? Math.round(ratingSum * 10.0 / reviewCount) / 10.0 : 0.0;
+    }
 }
\ No newline at end of file
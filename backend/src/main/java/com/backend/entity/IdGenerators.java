@@ -0,0 +1,22 @@
+package com.backend.entity;
+
+/**
+ * 테이블 기반 pooled id 발급 설정 (@TableGenerator 공통값).
+ * IDENTITY 는 INSERT 마다 생성된 키를 받아야 해서 JDBC 배치가 꺼지므로, 한 번에 자주 여러 건이 저장되는
+ * 게스트하우스/객실/예약은 id_sequence 테이블에서 ALLOCATION_SIZE 개씩 id 를 미리 받아 배치 INSERT 한다.
+ * 블록 크기를 바꾸면 마이그레이션의 초기값(V4__pooled_id_sequence.sql)도 함께 맞춘다.
+ * <p>
+ * 블록을 다 쓰면 발급기 모니터를 잡은 채 풀에서 커넥션을 하나 더 받아 별도 트랜잭션으로 id_sequence 를 갱신한다.
+ * 필요한 풀 여유는 JpaBatchConfig 에서 기동 시 검사한다.
+ */
+public final class IdGenerators {
+	public static final String TABLE = "id_sequence";
+	public static final String NAME_COLUMN = "sequence_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+	// 이 설정을 쓰는 발급기 수 (게스트하우스/객실/예약). 엔티티를 추가하면 함께 늘린다.
+	public static final int POOLED_GENERATORS = 3;
+
+	private IdGenerators() {
+	}
+}
@@ -1,20 +1,63 @@
 package com.backend.entity;
 
-import jakarta.persistence.*;
-import lombok.*;
+import java.io.Serializable;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사진 id -> 내용 해시(blob) 매핑. 같은 내용의 사진은 여러 photoId 가 하나의 blob 을 공유한다.
+ * 한 번 저장되면 바뀌지 않으므로 2차 캐시는 READ_ONLY.
+ */
 @Entity
-@Getter
-@Setter
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(name = "image", indexes = @Index(name = "idx_image_hash", columnList = "hash"))
+@IdClass(Image.Key.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Getter
 public class Image {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	private Integer id;
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private PhotoKind kind;
+
+	@Id
+	@Column(name = "photo_id")
+	private Integer photoId;
+
+	// SHA-256 (hex)
+	@Column(nullable = false, length = 64, columnDefinition = "CHAR(64)")
+	private String hash;
+
+	@Column(nullable = false)
+	private Long size;
+
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Getter
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private static final long serialVersionUID = 1L;
 
-	// ex) /uploads/2025/08/abc.png 혹은 https://s3.../abc.png
-	@Column(nullable = false, length = 1000)
-	private String url;
+		private PhotoKind kind;
+		private Integer photoId;
+	}
 }
@@ -0,0 +1,39 @@
+package com.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사진 id 발급용 hi-lo 테이블. 노드는 한 번에 블록 단위로 id 범위를 예약하고 메모리에서 나눠준다.
+ */
+@Entity
+@Table(name = "photo_id_sequence")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class PhotoIdSequence {
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private PhotoKind kind;
+
+	// 다음 블록의 시작 id
+	@Column(name = "next_value", nullable = false)
+	private Integer nextValue;
+
+	/** [반환값, 반환값 + size) 범위를 예약한다. */
+	public int reserve(int size) {
+		int start = nextValue;
+		nextValue = start + size;
+		return start;
+	}
+}
@@ -0,0 +1,30 @@
+package com.backend.entity;
+
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 사진 종류. 종류별로 photoId 공간과 저장 디렉터리가 분리된다. */
+@Getter
+@RequiredArgsConstructor
+public enum PhotoKind {
+	GUESTHOUSE("guesthouses"),
+	ROOM("rooms");
+
+	private final String directory;
+
+	// 업로드 key: "cover" -> 게스트하우스 대표 사진, "room-<idx>" -> 객실 사진
+	public static PhotoKind fromUploadKey(String key) {
+		return "cover".equals(key) ? GUESTHOUSE : ROOM;
+	}
+
+	public static Optional<PhotoKind> fromDirectory(String directory) {
+		for (PhotoKind kind : values()) {
+			if (kind.directory.equals(directory)) {
+				return Optional.of(kind);
+			}
+		}
+		return Optional.empty();
+	}
+}
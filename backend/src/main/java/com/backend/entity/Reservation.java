@@ -9,24 +9,33 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "reservation")
+// 인덱스는 db/migration/V3__query_indexes.sql, V5__reservation_room_check_out_index.sql 과 같게 유지
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_room_check_in", columnList = "room_id, check_in_date, check_out_date, people_count"),
+        @Index(name = "idx_reservation_room_check_out", columnList = "room_id, check_out_date, check_in_date"),
+        @Index(name = "idx_reservation_guest_check_in", columnList = "guest_id, check_in_date") })
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Getter
-public class Reservation {
+public class Reservation implements Stay {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reservation_id")
+    @TableGenerator(name = "reservation_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "reservation",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     @Column(name = "check_in_date", nullable = false)
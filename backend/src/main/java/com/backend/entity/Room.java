@@ -5,16 +5,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,14 +28,19 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "room")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "room", indexes = @Index(name = "idx_room_guesthouse_price", columnList = "guesthouse_id, price, capacity"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Getter
 public class Room {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_id")
+    @TableGenerator(name = "room_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "room",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     @Column(length = 100, nullable = false)
@@ -55,15 +66,12 @@ public class Room {
     	this.guesthouse = guesthouse;
     }
     
+    // 기간 중 가장 붐비는 박의 예약 인원 (겹치는 예약 인원의 단순 합이 아님)
     public int getReservedPeople(LocalDate checkIn, LocalDate checkOut) {
-        return reservations.stream()
-                .filter(res -> res.isOverlapping(checkIn, checkOut))
-                .mapToInt(res -> res.getPeopleCount())
-                .sum();
+        return CapacityCalculator.peakOccupancy(reservations, checkIn, checkOut);
     }
 
     public boolean isAvailable(LocalDate checkIn, LocalDate checkOut, int people) {
-        int reserved = getReservedPeople(checkIn, checkOut);
-        return (this.capacity - reserved - people) >= 0;
+        return CapacityCalculator.canAccommodate(this.capacity, reservations, checkIn, checkOut, people);
     }
 }
@@ -0,0 +1,15 @@
+package com.backend.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 정원 계산에 필요한 예약 정보(체크인, 체크아웃, 인원).
+ * Reservation 엔티티와 예약 projection 이 함께 구현해 CapacityCalculator 에서 같은 방식으로 다룬다.
+ */
+public interface Stay {
+	LocalDate getCheckInDate();
+
+	LocalDate getCheckOutDate();
+
+	Integer getPeopleCount();
+}
@@ -1,13 +1,20 @@
 package com.backend.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.backend.entity.Guesthouse;
 
+import jakarta.persistence.LockModeType;
+
 public interface GuesthouseRepository extends JpaRepository<Guesthouse, Integer> {
 	interface GuesthouseSummary {
 		Integer getId();
@@ -24,13 +31,147 @@ public interface GuesthouseRepository extends JpaRepository<Guesthouse, Integer>
 			""")
 	List<GuesthouseSummary> findMyGuesthouses(@Param("hostId") Integer hostId);
 
+	interface AvailableRoomRow {
+		Integer getGuesthouseId();
+		String getName();
+		String getAddress();
+		Double getRating();
+		Integer getPhotoId();
+		Integer getRoomCount();
+		Integer getRoomId();
+		Integer getPrice();
+	}
+
+	interface GuesthouseSearchRow {
+		Integer getId();
+		String getName();
+		String getAddress();
+		Double getRating();
+		Integer getPhotoId();
+		Integer getRoomCount();
+		Integer getMinPrice();
+	}
+
+	// 검색 공통 조건: 이름 부분일치 / 기간이 겹치는 예약 인원 합계를 빼고도 요청 인원을 수용할 수 있는 객실
+	String NAME_CONDITION = """
+			(:name is null or lower(g.name) like lower(concat('%', :name, '%')))
+			""";
+
+	/*
+	 * 박별 인원은 체크인 날에만 늘어나므로 기간 중 최대 인원은
+	 * "요청 체크인 박" 또는 "기간 안에서 시작하는 예약의 체크인 박" 중 하나에서 나온다.
+	 * 그 후보 박들만 검사해 겹치는 예약 인원을 단순 합산할 때 생기는 과대 계산을 피한다.
+	 */
+	String ROOM_AVAILABLE_CONDITION = """
+			r.capacity - coalesce((
+			    select sum(res.peopleCount)
+			    from Reservation res
+			    where res.room = r
+			      and res.checkInDate <= :checkIn
+			      and res.checkOutDate > :checkIn
+			), 0) >= :people
+			and not exists (
+			    select night.id
+			    from Reservation night
+			    where night.room = r
+			      and night.checkInDate > :checkIn
+			      and night.checkInDate < :checkOut
+			      and r.capacity - (
+			          select sum(res.peopleCount)
+			          from Reservation res
+			          where res.room = r
+			            and res.checkInDate <= night.checkInDate
+			            and res.checkOutDate > night.checkInDate
+			      ) < :people
+			)
+			""";
+
+	String SEARCH_ROW_SELECT = """
+			select g.id as id, g.name as name, g.address as address, g.rating as rating,
+			       g.photoId as photoId, g.roomCount as roomCount, min(r.price) as minPrice
+			from Room r
+			join r.guesthouse g
+			""";
+
+	String SEARCH_ROW_GROUP_BY = """
+			group by g.id, g.name, g.address, g.rating, g.photoId, g.roomCount
+			""";
+
+	/**
+	 * 검색 조건(이름 부분일치, 기간, 인원)을 만족하는 객실만 게스트하우스 정보와 함께 한 번에 조회한다.
+	 * 기간 중 박별 최대 예약 인원은 상관 서브쿼리로 DB에서 계산하므로 roomList/reservations 지연 로딩이 발생하지 않는다.
+	 * 결과는 게스트하우스 id, 객실 id 순으로 정렬되어 서비스에서 한 번의 순회로 묶을 수 있다.
+	 */
+	@Query("""
+			select g.id as guesthouseId, g.name as name, g.address as address, g.rating as rating,
+			       g.photoId as photoId, g.roomCount as roomCount, r.id as roomId, r.price as price
+			from Room r
+			join r.guesthouse g
+			""" + " where " + NAME_CONDITION + " and " + ROOM_AVAILABLE_CONDITION + """
+			order by g.id, r.id
+			""")
+	List<AvailableRoomRow> findAvailableRooms(@Param("checkIn") LocalDate checkIn,
+			@Param("checkOut") LocalDate checkOut, @Param("name") String name, @Param("people") int people);
+
+	// 페이지에 포함된 게스트하우스들의 예약 가능한 객실만 조회
+	@Query("""
+			select g.id as guesthouseId, g.name as name, g.address as address, g.rating as rating,
+			       g.photoId as photoId, g.roomCount as roomCount, r.id as roomId, r.price as price
+			from Room r
+			join r.guesthouse g
+			where g.id in :guesthouseIds
+			""" + " and " + ROOM_AVAILABLE_CONDITION + """
+			order by g.id, r.id
+			""")
+	List<AvailableRoomRow> findAvailableRoomsIn(@Param("checkIn") LocalDate checkIn,
+			@Param("checkOut") LocalDate checkOut, @Param("people") int people,
+			@Param("guesthouseIds") Collection<Integer> guesthouseIds);
+
+	// 키셋 페이지네이션: id 오름차순
+	@Query(SEARCH_ROW_SELECT + " where " + NAME_CONDITION + " and " + ROOM_AVAILABLE_CONDITION + """
+			  and (:afterId is null or g.id > :afterId)
+			""" + SEARCH_ROW_GROUP_BY + """
+			order by g.id
+			""")
+	List<GuesthouseSearchRow> searchPageOrderById(@Param("checkIn") LocalDate checkIn,
+			@Param("checkOut") LocalDate checkOut, @Param("name") String name, @Param("people") int people,
+			@Param("afterId") Integer afterId, Pageable pageable);
+
+	// 키셋 페이지네이션: 평점 내림차순, 동점은 id 오름차순
+	@Query(SEARCH_ROW_SELECT + " where " + NAME_CONDITION + " and " + ROOM_AVAILABLE_CONDITION + """
+			  and (:afterRating is null
+			       or g.rating < :afterRating
+			       or (g.rating = :afterRating and g.id > :afterId))
+			""" + SEARCH_ROW_GROUP_BY + """
+			order by g.rating desc, g.id
+			""")
+	List<GuesthouseSearchRow> searchPageOrderByRating(@Param("checkIn") LocalDate checkIn,
+			@Param("checkOut") LocalDate checkOut, @Param("name") String name, @Param("people") int people,
+			@Param("afterRating") Double afterRating, @Param("afterId") Integer afterId, Pageable pageable);
+
+	// 키셋 페이지네이션: 최저가 오름차순, 동점은 id 오름차순 (집계값이므로 having 으로 커서 적용)
+	@Query(SEARCH_ROW_SELECT + " where " + NAME_CONDITION + " and " + ROOM_AVAILABLE_CONDITION
+			+ SEARCH_ROW_GROUP_BY + """
+			having :afterPrice is null
+			    or min(r.price) > :afterPrice
+			    or (min(r.price) = :afterPrice and g.id > :afterId)
+			order by min(r.price), g.id
+			""")
+	List<GuesthouseSearchRow> searchPageOrderByMinPrice(@Param("checkIn") LocalDate checkIn,
+			@Param("checkOut") LocalDate checkOut, @Param("name") String name, @Param("people") int people,
+			@Param("afterPrice") Integer afterPrice, @Param("afterId") Integer afterId, Pageable pageable);
+
 	@Query("""
 			select coalesce(max(g.photoId), 0) from Guesthouse g
 			""")
 	Integer findMaxPhotoId();
-	
-    @Query("SELECT AVG(r.rating) " +
-            "FROM Review r " +
-            "WHERE r.reservation.room.guesthouse.id = :guesthouseId")
-    Double calculateAverageRating(@Param("guesthouseId") Integer guesthouseId);
+
+	/*
+	 * 리뷰 평점 집계 갱신용 행 잠금 (SELECT ... FOR UPDATE): 같은 게스트하우스의 리뷰 작성/수정/삭제를 직렬화한다.
+	 * 집계는 관리 엔티티에서 바꾸므로 2차 캐시는 이 게스트하우스 항목만 갱신된다
+	 * (벌크 UPDATE 는 Guesthouse 영역 전체를 무효화한다).
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select g from Guesthouse g where g.id = :id")
+	Optional<Guesthouse> findByIdForUpdate(@Param("id") Integer id);
 }
@@ -0,0 +1,10 @@
+package com.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.backend.entity.Image;
+
+@Repository
+public interface ImageRepository extends JpaRepository<Image, Image.Key> {
+}
@@ -0,0 +1,22 @@
+package com.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.backend.entity.PhotoIdSequence;
+import com.backend.entity.PhotoKind;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PhotoIdSequenceRepository extends JpaRepository<PhotoIdSequence, PhotoKind> {
+	// 블록 예약 시 행 잠금: 여러 노드가 동시에 예약해도 범위가 겹치지 않는다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from PhotoIdSequence s where s.kind = :kind")
+	Optional<PhotoIdSequence> findForUpdate(@Param("kind") PhotoKind kind);
+}
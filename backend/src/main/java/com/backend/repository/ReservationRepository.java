@@ -1,32 +1,133 @@
 package com.backend.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.hibernate.jpa.AvailableHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.entity.Reservation;
+import com.backend.entity.Stay;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Integer> {
+	interface OccupancyRow extends Stay {
+		Integer getRoomId();
+	}
+
 	List<Reservation> findByRoomId(Integer roomId);
 
+	interface MyReservationRow {
+		Integer getId();
+		Integer getRoomId();
+		Integer getGuesthouseId();
+		String getGuesthouseName();
+		LocalDate getCheckInDate();
+		LocalDate getCheckOutDate();
+		Integer getPeopleCount();
+		Integer getReviewId();
+		String getReviewComment();
+	}
+
 	List<Reservation> findByGuest_Id(Integer userId);
 
-	@EntityGraph(attributePaths = { "room", "room.guesthouse", "guest" })
-	List<Reservation> findAllByRoom_Guesthouse_IdOrderByCheckInDateAsc(Integer guesthouseId);
+	// 내 예약 목록: 객실/게스트하우스/리뷰를 조인해 응답 컬럼만 한 번에 조회 (최근 체크인 순)
+	@Query("""
+			    select r.id as id, rm.id as roomId, g.id as guesthouseId, g.name as guesthouseName,
+			           r.checkInDate as checkInDate, r.checkOutDate as checkOutDate, r.peopleCount as peopleCount,
+			           rv.id as reviewId, rv.comment as reviewComment
+			    from Reservation r
+			    join r.room rm
+			    join rm.guesthouse g
+			    left join Review rv on rv.reservation = r
+			    where r.guest.id = :guestId
+			    order by r.checkInDate desc, r.id desc
+			""")
+	List<MyReservationRow> findMyReservations(@Param("guestId") Integer guestId, Pageable pageable);
+
+	interface HostReservationRow {
+		Integer getId();
+		Integer getRoomId();
+		String getRoomName();
+		Integer getGuestId();
+		String getGuestUsername();
+		LocalDate getCheckInDate();
+		LocalDate getCheckOutDate();
+		Integer getPeopleCount();
+	}
+
+	/*
+	 * 호스트 예약 목록: 기간(from~to)과 겹치는 예약을 (체크인, id) 순 키셋으로 조회. 파라미터가 null 이면 해당 조건 없음.
+	 * 게스트하우스의 객실 id 를 값 목록으로 받아 (room_id, check_out_date) 인덱스를 객실마다 checkOut > from 부터
+	 * range 로 읽는다 (room 조인 조건으로 거르면 room_id 만 ref 로 쓰고 객실의 과거 예약 전체를 훑는다).
+	 */
+	@Query("""
+			    select r.id as id, rm.id as roomId, rm.name as roomName,
+			           u.id as guestId, u.username as guestUsername,
+			           r.checkInDate as checkInDate, r.checkOutDate as checkOutDate, r.peopleCount as peopleCount
+			    from Reservation r
+			    join r.room rm
+			    join r.guest u
+			    where r.room.id in :roomIds
+			      and (:from is null or r.checkOutDate > :from)
+			      and (:to is null or r.checkInDate < :to)
+			      and (:afterCheckIn is null
+			           or r.checkInDate > :afterCheckIn
+			           or (r.checkInDate = :afterCheckIn and r.id > :afterId))
+			    order by r.checkInDate asc, r.id asc
+			""")
+	List<HostReservationRow> findHostReservations(@Param("roomIds") Collection<Integer> roomIds,
+			@Param("from") LocalDate from, @Param("to") LocalDate to,
+			@Param("afterCheckIn") LocalDate afterCheckIn, @Param("afterId") Integer afterId, Pageable pageable);
+
+	/*
+	 * 호스트 예약 내보내기: 엔티티 없이 행 단위로 스트리밍.
+	 * MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 받아오고,
+	 * 그 외에는 전체 결과를 메모리에 올린다. 스트림을 닫을 때까지 같은 커넥션으로 다른 쿼리를 보내면 안 된다.
+	 */
+	@QueryHints({
+			@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "-2147483648"),
+			@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true") })
+	@Query("""
+			    select r.id as id, rm.id as roomId, rm.name as roomName,
+			           u.id as guestId, u.username as guestUsername,
+			           r.checkInDate as checkInDate, r.checkOutDate as checkOutDate, r.peopleCount as peopleCount
+			    from Reservation r
+			    join r.room rm
+			    join r.guest u
+			    where rm.guesthouse.id = :guesthouseId
+			    order by r.checkInDate asc, r.id asc
+			""")
+	Stream<HostReservationRow> streamForExport(@Param("guesthouseId") Integer guesthouseId);
 
+	// 기간이 겹치는 예약의 박 정보만 조회 (박별 최대 인원은 CapacityCalculator 로 계산)
 	@Query("""
-			    select coalesce(sum(r.peopleCount), 0)
+			    select r.room.id as roomId, r.checkInDate as checkInDate,
+			           r.checkOutDate as checkOutDate, r.peopleCount as peopleCount
 			    from Reservation r
 			    where r.room.id = :roomId
 			      and r.checkInDate < :checkOut
 			      and r.checkOutDate > :checkIn
 			""")
-	int sumPeopleCountForOverlap(@Param("roomId") Integer roomId, @Param("checkIn") LocalDate checkIn,
+	List<OccupancyRow> findOverlappingStays(@Param("roomId") Integer roomId, @Param("checkIn") LocalDate checkIn,
 			@Param("checkOut") LocalDate checkOut);
+
+	// 점유 인덱스 초기화용: 지정일 이후까지 이어지는 예약만 엔티티 없이 조회
+	@Query("""
+			    select r.room.id as roomId, r.checkInDate as checkInDate,
+			           r.checkOutDate as checkOutDate, r.peopleCount as peopleCount
+			    from Reservation r
+			    where r.checkOutDate > :from
+			""")
+	List<OccupancyRow> findOccupancyFrom(@Param("from") LocalDate from);
 }
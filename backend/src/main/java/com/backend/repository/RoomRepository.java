@@ -1,13 +1,24 @@
 package com.backend.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.backend.entity.Room;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Integer> {
 	@Query("select coalesce(max(r.photoId), 0) from Room r")
 	Integer findMaxPhotoId();
+
+	// 예약 생성 시 객실 행 잠금 (SELECT ... FOR UPDATE): 같은 객실 예약은 트랜잭션 종료까지 직렬화
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from Room r where r.id = :id")
+	Optional<Room> findByIdForUpdate(@Param("id") Integer id);
 }
@@ -2,13 +2,19 @@ package com.backend.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.backend.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
+	// 로그인마다 조회: 쿼리 캐시(users 테이블 변경 시 무효화) + User 엔티티 캐시
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
 	Optional<User> findByLoginId(String loginId);
 	Optional<User> findById(Integer hostId);
 	boolean existsByLoginId(String loginId);
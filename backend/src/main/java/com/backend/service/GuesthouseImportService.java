@@ -0,0 +1,229 @@
+package com.backend.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.dto.request.GuestHouseCreateRequest;
+import com.backend.dto.response.ImportResultDto;
+import com.backend.entity.Guesthouse;
+import com.backend.entity.User;
+import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게스트하우스 일괄 등록 (NDJSON: 한 줄에 GuestHouseCreateRequest 1건).
+ * - 입력을 한 줄씩 읽어 파싱/검증하고, 유효한 건을 batchSize 개씩 모아 청크마다 별도 트랜잭션으로 저장한다.
+ * - 청크 저장 후 영속성 컨텍스트를 비우고 결과를 바로 응답에 써서, 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * - 청크 저장이 실패하면 해당 청크만 한 건씩 다시 저장해 실패한 줄만 골라낸다.
+ */
+@Slf4j
+@Service
+public class GuesthouseImportService {
+	// 저장 실패 줄의 error 문구 (예외 메시지는 로그에만 남김)
+	static final String CONSTRAINT_VIOLATION = "저장 실패: 중복되거나 유효하지 않은 값";
+	static final String SAVE_FAILED = "저장 실패";
+
+	private final UserRepository userRepository;
+	private final GuesthouseRepository guesthouseRepository;
+	private final GuesthouseSearchCache searchCache;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final EntityManager entityManager;
+	private final TransactionOperations transaction;
+	private final int batchSize;
+
+	public record Summary(int imported, int failed) {}
+
+	private record Pending(int line, GuestHouseCreateRequest request) {}
+
+	@Autowired
+	public GuesthouseImportService(UserRepository userRepository, GuesthouseRepository guesthouseRepository,
+			GuesthouseSearchCache searchCache, ObjectMapper objectMapper, Validator validator,
+			EntityManager entityManager, PlatformTransactionManager transactionManager,
+			@Value("${app.import.batch-size:500}") int batchSize) {
+		this(userRepository, guesthouseRepository, searchCache, objectMapper, validator, entityManager,
+				new TransactionTemplate(transactionManager), batchSize);
+	}
+
+	GuesthouseImportService(UserRepository userRepository, GuesthouseRepository guesthouseRepository,
+			GuesthouseSearchCache searchCache, ObjectMapper objectMapper, Validator validator,
+			EntityManager entityManager, TransactionOperations transaction, int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize must be positive");
+		}
+		this.userRepository = userRepository;
+		this.guesthouseRepository = guesthouseRepository;
+		this.searchCache = searchCache;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.entityManager = entityManager;
+		this.transaction = transaction;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * in 의 NDJSON 을 hostId 소유로 등록하고, 줄마다 ImportResultDto 를 out 에 NDJSON 으로 쓴다.
+	 * 빈 줄은 건너뛴다. 호스트가 없으면 아무것도 읽지 않고 IllegalArgumentException.
+	 */
+	public Summary importNdjson(Integer hostId, InputStream in, OutputStream out) throws IOException {
+		if (!userRepository.existsById(hostId)) {
+			throw new IllegalArgumentException("Host not found");
+		}
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		List<Pending> chunk = new ArrayList<>(batchSize);
+		int imported = 0;
+		int failed = 0;
+		int lineNumber = 0;
+
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank()) {
+				continue;
+			}
+			String error;
+			try {
+				GuestHouseCreateRequest request = objectMapper.readValue(line, GuestHouseCreateRequest.class);
+				error = validate(request);
+				if (error == null) {
+					chunk.add(new Pending(lineNumber, request));
+				}
+			} catch (JsonProcessingException e) {
+				error = "JSON 형식 오류: " + e.getOriginalMessage();
+			}
+			// 실패는 바로 쓰고, 성공은 청크 저장 후 id 와 함께 쓴다 (결과 순서는 줄 번호 순이 아닐 수 있음).
+			if (error != null) {
+				write(writer, failure(lineNumber, error));
+				failed++;
+			}
+			if (chunk.size() >= batchSize) {
+				int[] counts = writeAll(writer, save(hostId, chunk));
+				imported += counts[0];
+				failed += counts[1];
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			int[] counts = writeAll(writer, save(hostId, chunk));
+			imported += counts[0];
+			failed += counts[1];
+		}
+		writer.flush();
+
+		log.info("게스트하우스 일괄 등록 완료 (host {}): 성공 {}건, 실패 {}건", hostId, imported, failed);
+		return new Summary(imported, failed);
+	}
+
+	private String validate(GuestHouseCreateRequest request) {
+		if (request == null) {
+			return "빈 레코드";
+		}
+		Set<ConstraintViolation<GuestHouseCreateRequest>> violations = validator.validate(request);
+		if (!violations.isEmpty()) {
+			return violations.stream()
+					.map(v -> v.getPropertyPath() + " " + v.getMessage())
+					.sorted()
+					.collect(Collectors.joining(", "));
+		}
+		if (!request.getRoomCount().equals(request.getRooms().size())) {
+			return "room_count mismatch with rooms array size";
+		}
+		return null;
+	}
+
+	// 청크를 한 트랜잭션으로 저장. 실패하면 한 건씩 다시 저장해 실패한 줄만 보고한다.
+	private List<ImportResultDto> save(Integer hostId, List<Pending> chunk) {
+		try {
+			return transaction.execute(status -> persist(hostId, chunk));
+		} catch (RuntimeException e) {
+			entityManager.clear();
+			log.warn("일괄 등록 청크 저장 실패, 한 건씩 재시도 (줄 {}~{})", chunk.get(0).line(),
+					chunk.get(chunk.size() - 1).line(), e);
+		}
+
+		List<ImportResultDto> results = new ArrayList<>(chunk.size());
+		for (Pending pending : chunk) {
+			try {
+				results.addAll(transaction.execute(status -> persist(hostId, List.of(pending))));
+			} catch (RuntimeException e) {
+				entityManager.clear();
+				// 예외 메시지에는 SQL/제약 조건 이름이 섞이므로 로그에만 남기고 응답에는 고정 문구를 쓴다
+				log.warn("일괄 등록 저장 실패 (host {}, 줄 {})", hostId, pending.line(), e);
+				results.add(failure(pending.line(), e instanceof DataIntegrityViolationException
+						? CONSTRAINT_VIOLATION : SAVE_FAILED));
+			}
+		}
+		return results;
+	}
+
+	private List<ImportResultDto> persist(Integer hostId, List<Pending> chunk) {
+		User host = userRepository.getReferenceById(hostId);
+		List<Guesthouse> guesthouses = new ArrayList<>(chunk.size());
+		for (Pending pending : chunk) {
+			guesthouses.add(GuesthouseService.newGuesthouse(host, pending.request()));
+		}
+		guesthouseRepository.saveAll(guesthouses);
+		// JDBC 배치로 INSERT 를 보내고, 저장한 엔티티를 영속성 컨텍스트에서 내보낸다 (OSIV 로 요청 내내 유지되므로).
+		entityManager.flush();
+		entityManager.clear();
+		searchCache.catalogChanged();
+
+		List<ImportResultDto> results = new ArrayList<>(chunk.size());
+		for (int i = 0; i < chunk.size(); i++) {
+			results.add(ImportResultDto.builder()
+					.line(chunk.get(i).line())
+					.success(true)
+					.id(guesthouses.get(i).getId())
+					.build());
+		}
+		return results;
+	}
+
+	private static ImportResultDto failure(int line, String error) {
+		return ImportResultDto.builder().line(line).success(false).error(error).build();
+	}
+
+	private void write(Writer writer, ImportResultDto result) throws IOException {
+		writer.write(objectMapper.writeValueAsString(result));
+		writer.write('\n');
+	}
+
+	// 청크 결과를 쓰고 flush 해 클라이언트가 진행 상황을 바로 받게 한다. {성공 수, 실패 수}
+	private int[] writeAll(Writer writer, List<ImportResultDto> results) throws IOException {
+		int[] counts = new int[2];
+		for (ImportResultDto result : results) {
+			write(writer, result);
+			counts[result.getSuccess() ? 0 : 1]++;
+		}
+		writer.flush();
+		return counts;
+	}
+}
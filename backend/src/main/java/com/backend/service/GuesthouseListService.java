@@ -1,59 +1,137 @@
 package com.backend.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.backend.dto.request.GuesthouseSearchSort;
 import com.backend.dto.response.GuesthouseResponseDto;
-import com.backend.entity.Guesthouse;
-import com.backend.entity.Room;
+import com.backend.dto.response.GuesthouseSearchPageDto;
 import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.GuesthouseRepository.AvailableRoomRow;
+import com.backend.repository.GuesthouseRepository.GuesthouseSearchRow;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
 public class GuesthouseListService {
 
     private final GuesthouseRepository guesthouseRepository;
+    private final GuesthouseSearchCache searchCache;
 
-    public GuesthouseListService(GuesthouseRepository guesthouseRepository) {
+    public GuesthouseListService(GuesthouseRepository guesthouseRepository, GuesthouseSearchCache searchCache) {
         this.guesthouseRepository = guesthouseRepository;
+        this.searchCache = searchCache;
     }
 
+    // 캐시 적중 포함 응답 시간
+    @Timed(value = "guesthouse.search", extraTags = {"mode", "list"}, histogram = true)
     public List<GuesthouseResponseDto> searchGuesthouses(int userId, LocalDate checkIn, LocalDate checkOut, String name, int people) {
-        List<Guesthouse> allGuesthouses = guesthouseRepository.findAll();
-
-        return allGuesthouses.stream()
-                .filter(guesthouse -> name == null || guesthouse.getName().toLowerCase().contains(name.toLowerCase()))
-                .map(guesthouse -> {
-                    // 예약 가능한 방 필터링
-                    List<Room> availableRooms = guesthouse.getRoomList().stream()
-                            .filter(room -> room.isAvailable(checkIn, checkOut, people))
-                            .toList();
-
-                    // 방 id 리스트
-                    List<Integer> availableRoomIds = availableRooms.stream()
-                            .map(Room::getId)
-                            .toList();
-
-                    // 최저가 계산 (예약 가능한 방이 있을 때만)
-                    Integer minPrice = availableRooms.stream()
-                            .map(Room::getPrice)
-                            .min(Integer::compareTo)
-                            .orElse(null);
-
-                    return GuesthouseResponseDto.builder()
-                            .id(guesthouse.getId())
-                            .name(guesthouse.getName())
-                            .address(guesthouse.getAddress())
-                            .rating(guesthouse.getRating())
-                            .photoId(guesthouse.getPhotoId())
-                            .roomCount(guesthouse.getRoomCount())
-                            .roomAvailable(availableRoomIds)
-                            .minPrice(minPrice)
-                            .build();
-                })
-                .filter(dto -> !dto.getRoomAvailable().isEmpty()) // 방이 하나도 없으면 제외
-                .collect(Collectors.toList());
+        // 같은 조건의 반복 검색은 캐시에서 응답 (예약/게스트하우스 변경 시 무효화)
+        return searchCache.get(checkIn, checkOut, name, people,
+                () -> findAvailableGuesthouses(checkIn, checkOut, name, people));
+    }
+
+    private List<GuesthouseResponseDto> findAvailableGuesthouses(LocalDate checkIn, LocalDate checkOut, String name, int people) {
+        // 예약 가능한 객실만 (게스트하우스 id, 객실 id) 순으로 한 번에 조회
+        List<AvailableRoomRow> rows = guesthouseRepository.findAvailableRooms(checkIn, checkOut, name, people);
+
+        List<GuesthouseResponseDto> result = new ArrayList<>();
+        int i = 0;
+        while (i < rows.size()) {
+            AvailableRoomRow first = rows.get(i);
+            List<Integer> availableRoomIds = new ArrayList<>();
+            int minPrice = Integer.MAX_VALUE;
+
+            // 같은 게스트하우스의 연속된 행을 묶어 방 id 리스트와 최저가 계산
+            while (i < rows.size() && rows.get(i).getGuesthouseId().equals(first.getGuesthouseId())) {
+                AvailableRoomRow row = rows.get(i++);
+                availableRoomIds.add(row.getRoomId());
+                minPrice = Math.min(minPrice, row.getPrice());
+            }
+
+            result.add(GuesthouseResponseDto.builder()
+                    .id(first.getGuesthouseId())
+                    .name(first.getName())
+                    .address(first.getAddress())
+                    .rating(first.getRating())
+                    .photoId(first.getPhotoId())
+                    .roomCount(first.getRoomCount())
+                    .roomAvailable(availableRoomIds)
+                    .minPrice(minPrice)
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 키셋 페이지네이션 검색. 정렬/커서 조건과 LIMIT 을 DB 에서 처리하므로
+     * 카탈로그 크기와 관계없이 한 페이지 분량만 읽는다.
+     */
+    @Timed(value = "guesthouse.search", extraTags = {"mode", "page"}, histogram = true)
+    public GuesthouseSearchPageDto searchGuesthousePage(LocalDate checkIn, LocalDate checkOut, String name, int people,
+            GuesthouseSearchSort sort, int size, String cursor) {
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor, sort);
+        Integer afterId = after == null ? null : after.lastId();
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용 +1
+
+        List<GuesthouseSearchRow> rows = switch (sort) {
+            case ID -> guesthouseRepository.searchPageOrderById(checkIn, checkOut, name, people, afterId, limit);
+            case RATING -> guesthouseRepository.searchPageOrderByRating(checkIn, checkOut, name, people,
+                    after == null ? null : after.doubleValue(), afterId, limit);
+            case MIN_PRICE -> guesthouseRepository.searchPageOrderByMinPrice(checkIn, checkOut, name, people,
+                    after == null ? null : after.intValue(), afterId, limit);
+        };
+
+        boolean hasNext = rows.size() > size;
+        List<GuesthouseSearchRow> page = hasNext ? rows.subList(0, size) : rows;
+        if (page.isEmpty()) {
+            return GuesthouseSearchPageDto.builder().items(List.of()).build();
+        }
+
+        // 페이지에 포함된 게스트하우스의 예약 가능한 방 id 만 추가 조회
+        List<Integer> ids = page.stream().map(GuesthouseSearchRow::getId).toList();
+        Map<Integer, List<Integer>> roomIds = new HashMap<>();
+        for (AvailableRoomRow row : guesthouseRepository.findAvailableRoomsIn(checkIn, checkOut, people, ids)) {
+            roomIds.computeIfAbsent(row.getGuesthouseId(), id -> new ArrayList<>()).add(row.getRoomId());
+        }
+
+        List<GuesthouseResponseDto> items = new ArrayList<>(page.size());
+        for (GuesthouseSearchRow row : page) {
+            List<Integer> available = roomIds.get(row.getId());
+            if (available == null) continue; // 두 조회 사이에 마감된 경우
+            items.add(GuesthouseResponseDto.builder()
+                    .id(row.getId())
+                    .name(row.getName())
+                    .address(row.getAddress())
+                    .rating(row.getRating())
+                    .photoId(row.getPhotoId())
+                    .roomCount(row.getRoomCount())
+                    .roomAvailable(available)
+                    .minPrice(row.getMinPrice())
+                    .build());
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            GuesthouseSearchRow last = page.get(page.size() - 1);
+            String sortValue = switch (sort) {
+                case ID -> null;
+                case RATING -> String.valueOf(last.getRating());
+                case MIN_PRICE -> String.valueOf(last.getMinPrice());
+            };
+            nextCursor = new SearchCursor(sort, sortValue, last.getId()).encode();
+        }
+
+        return GuesthouseSearchPageDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
     }
 }
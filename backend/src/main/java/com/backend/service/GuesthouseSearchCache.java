@@ -0,0 +1,107 @@
+package com.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.backend.dto.response.GuesthouseResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게스트하우스 검색 결과 캐시. (checkIn, checkOut, name, people) 단위로 크기 + TTL 제한을 둔다.
+ * - 예약 생성/취소: 기간이 겹치는 검색 결과만 무효화
+ * - 게스트하우스 생성/삭제: 전체 무효화 (어떤 검색 조건에 새로 걸릴지 알 수 없음)
+ * - 리뷰로 평점 변경: 그 게스트하우스가 들어 있는 검색 결과만 무효화
+ * 무효화는 커밋 이후에 적용하고, 조회 중 무효화가 일어난 결과는 캐시에 남기지 않는다.
+ * 적중/미스/축출 통계는 cache.* 메트릭(cache=guesthouse.search)으로 노출한다.
+ */
+@Component
+public class GuesthouseSearchCache {
+	public static final String NAME = "guesthouse.search";
+
+	record Key(LocalDate checkIn, LocalDate checkOut, String name, int people) {
+		// 이름 조건은 대소문자 무시 부분일치이고 빈 문자열은 전체 조회와 같다.
+		static Key of(LocalDate checkIn, LocalDate checkOut, String name, int people) {
+			String normalized = name == null || name.isEmpty() ? null : name.toLowerCase(Locale.ROOT);
+			return new Key(checkIn, checkOut, normalized, people);
+		}
+
+		boolean overlaps(LocalDate from, LocalDate to) {
+			return checkIn.isBefore(to) && checkOut.isAfter(from);
+		}
+	}
+
+	private final Cache<Key, List<GuesthouseResponseDto>> cache;
+	// 무효화마다 증가. 조회 시작 이후 값이 바뀌었으면 조회 결과를 캐시에 두지 않는다.
+	private final AtomicLong generation = new AtomicLong();
+
+	@Autowired
+	public GuesthouseSearchCache(MeterRegistry meterRegistry,
+			@Value("${app.search-cache.maximum-size:10000}") long maximumSize,
+			@Value("${app.search-cache.ttl:60s}") Duration ttl) {
+		this(maximumSize, ttl);
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+	}
+
+	GuesthouseSearchCache(long maximumSize, Duration ttl) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+	}
+
+	public List<GuesthouseResponseDto> get(LocalDate checkIn, LocalDate checkOut, String name, int people,
+			Supplier<List<GuesthouseResponseDto>> loader) {
+		Key key = Key.of(checkIn, checkOut, name, people);
+		List<GuesthouseResponseDto> cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		long startedAt = generation.get();
+		List<GuesthouseResponseDto> loaded = List.copyOf(loader.get());
+		cache.put(key, loaded);
+		// 조회 도중 커밋된 변경이 있으면 이전 상태를 읽었을 수 있으므로 방금 넣은 값을 버린다.
+		if (generation.get() != startedAt) {
+			cache.invalidate(key);
+		}
+		return loaded;
+	}
+
+	/** 예약 생성/취소: 커밋 후 기간이 겹치는 검색 결과만 무효화 */
+	public void reservationChanged(LocalDate checkIn, LocalDate checkOut) {
+		TransactionCallbacks.afterCommit(() -> {
+			generation.incrementAndGet();
+			cache.asMap().keySet().removeIf(key -> key.overlaps(checkIn, checkOut));
+		});
+	}
+
+	/** 게스트하우스 표시 정보(평점 등) 변경: 커밋 후 그 게스트하우스가 포함된 검색 결과만 무효화 */
+	public void guesthouseChanged(Integer guesthouseId) {
+		TransactionCallbacks.afterCommit(() -> {
+			generation.incrementAndGet();
+			cache.asMap().values().removeIf(results -> results.stream()
+					.anyMatch(guesthouse -> guesthouseId.equals(guesthouse.getId())));
+		});
+	}
+
+	/** 게스트하우스/객실 구성 변경: 커밋 후 전체 무효화 */
+	public void catalogChanged() {
+		TransactionCallbacks.afterCommit(() -> {
+			generation.incrementAndGet();
+			cache.invalidateAll();
+		});
+	}
+}
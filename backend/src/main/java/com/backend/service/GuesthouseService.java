@@ -1,9 +1,12 @@
 package com.backend.service;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -11,12 +14,13 @@ import org.springframework.web.server.ResponseStatusException;
 import com.backend.dto.request.GuestHouseCreateRequest;
 import com.backend.dto.response.ReservationListItemDto;
 import com.backend.dto.response.ReservationListItemDto.GuestSimpleDto;
+import com.backend.dto.response.ReservationPageDto;
 import com.backend.entity.Guesthouse;
-import com.backend.entity.Reservation;
 import com.backend.entity.Room;
 import com.backend.entity.User;
 import com.backend.repository.GuesthouseRepository;
 import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.HostReservationRow;
 import com.backend.repository.RoomRepository;
 import com.backend.repository.UserRepository;
 
@@ -36,17 +40,30 @@ public class GuesthouseService {
 	@Autowired
 	public ReservationRepository reservationRepository;
 
+	@Autowired
+	public GuesthouseSearchCache searchCache;
+
 	@Transactional
 	public Integer createGuestHouseWithRooms(Integer hostId, GuestHouseCreateRequest request) {
 		// 1) 호스트 존재 검증
 		User host = userRepository.findById(hostId).orElseThrow(() -> new IllegalArgumentException("Host not found"));
 
+		// 2) Guesthouse + Rooms 생성
+		Guesthouse guesthouse = newGuesthouse(host, request);
+
+        // 3) 저장 (CascadeType.ALL로 room까지 함께 저장)
+        Guesthouse saved = guesthouseRepository.save(guesthouse);
+        searchCache.catalogChanged();
+        return saved.getId();
+	}
+
+	// 요청으로 Guesthouse 와 Room 엔티티 생성 (guesthouse.addRoom로 양방향/주인세팅). 일괄 등록에서도 사용
+	static Guesthouse newGuesthouse(User host, GuestHouseCreateRequest request) {
 		if (request.getRooms() != null && request.getRoomCount() != null
                 && !request.getRoomCount().equals(request.getRooms().size())) {
             throw new IllegalArgumentException("room_count mismatch with rooms array size");
         }
-		
-		// 2) Guesthouse 생성
+
 		Guesthouse guesthouse = Guesthouse.builder()
                 .name(request.getName())
                 .description(request.getDescription())
@@ -58,7 +75,6 @@ public class GuesthouseService {
                 .host(host)
                 .build();
 
-		// 3) Rooms 추가 (guesthouse.addRoom로 양방향/주인세팅)
         if (request.getRooms() != null) {
             for (GuestHouseCreateRequest.RoomRequest r : request.getRooms()) {
                 Room room = Room.builder()
@@ -70,10 +86,7 @@ public class GuesthouseService {
                 guesthouse.addRoom(room);
             }
         }
-
-        // 4) 저장 (CascadeType.ALL로 room까지 함께 저장)
-        Guesthouse saved = guesthouseRepository.save(guesthouse);
-        return saved.getId();
+        return guesthouse;
 	}
 
 	public List<GuesthouseRepository.GuesthouseSummary> getMyGuesthouses(Integer hostId) {
@@ -90,35 +103,98 @@ public class GuesthouseService {
 		}
 
 		guesthouseRepository.delete(guesthouse);
+		searchCache.catalogChanged();
 	}
 	
-	@Transactional
-    public List<ReservationListItemDto> getReservationsByGuesthouse(Integer guesthouseId, Integer hostId) {
-        // 1) 존재/소유 검증
+	// 존재/소유 검증 (예약 내보내기는 응답을 쓰기 시작하기 전에 먼저 호출)
+	public void verifyOwner(Integer guesthouseId, Integer hostId) {
+		ownedGuesthouse(guesthouseId, hostId);
+	}
+
+	private Guesthouse ownedGuesthouse(Integer guesthouseId, Integer hostId) {
         Guesthouse guesthouse = guesthouseRepository.findById(guesthouseId)
             .orElseThrow(() -> new IllegalArgumentException("Guesthouse not found"));
 
         if (!guesthouse.getHost().getId().equals(hostId)) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not the owner of this guesthouse.");
         }
+        return guesthouse;
+	}
+
+	// 예약 목록은 객실 id 값 목록으로 조회한다 (ReservationRepository.findHostReservations 참고). roomList 는 2차 캐시 대상
+	private static List<Integer> roomIdsOf(Guesthouse guesthouse) {
+		return guesthouse.getRoomList().stream().map(Room::getId).toList();
+	}
+
+	@Transactional
+	public List<ReservationListItemDto> getReservationsByGuesthouse(Integer guesthouseId, Integer hostId) {
+		return getReservationsByGuesthouse(guesthouseId, hostId, null, null);
+	}
+
+	/** 기간(from~to, 각각 생략 가능)과 겹치는 예약 전체를 체크인 순으로. */
+	@Transactional
+	public List<ReservationListItemDto> getReservationsByGuesthouse(Integer guesthouseId, Integer hostId,
+			LocalDate from, LocalDate to) {
+		// 1) 존재/소유 검증
+		List<Integer> roomIds = roomIdsOf(ownedGuesthouse(guesthouseId, hostId));
+		validateRange(from, to);
+		if (roomIds.isEmpty()) {
+			return List.of();
+		}
+
+		// 2) 응답 컬럼만 projection 으로 조회
+		return reservationRepository.findHostReservations(roomIds, from, to, null, null, Pageable.unpaged())
+				.stream().map(GuesthouseService::toListItem).toList();
+	}
+
+	/**
+	 * 기간과 겹치는 예약을 (체크인, id) 순 키셋 페이지로.
+	 * size + 1 건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만든다.
+	 */
+	@Transactional
+	public ReservationPageDto getReservationPage(Integer guesthouseId, Integer hostId, LocalDate from, LocalDate to,
+			int size, String cursor) {
+		List<Integer> roomIds = roomIdsOf(ownedGuesthouse(guesthouseId, hostId));
+		validateRange(from, to);
+		ReservationCursor after = cursor == null || cursor.isBlank() ? null : ReservationCursor.decode(cursor);
+		if (roomIds.isEmpty()) {
+			return ReservationPageDto.builder().items(List.of()).build();
+		}
+
+		List<HostReservationRow> rows = reservationRepository.findHostReservations(roomIds, from, to,
+				after == null ? null : after.checkInDate(), after == null ? null : after.lastId(),
+				PageRequest.of(0, size + 1));
+
+		String nextCursor = null;
+		if (rows.size() > size) {
+			rows = rows.subList(0, size);
+			HostReservationRow last = rows.get(size - 1);
+			nextCursor = new ReservationCursor(last.getCheckInDate(), last.getId()).encode();
+		}
+		return ReservationPageDto.builder()
+				.items(rows.stream().map(GuesthouseService::toListItem).toList())
+				.nextCursor(nextCursor)
+				.build();
+	}
 
-        // 2) 예약 조회 (연관 로딩으로 N+1 방지)
-        List<Reservation> reservations =
-            reservationRepository.findAllByRoom_Guesthouse_IdOrderByCheckInDateAsc(guesthouseId);
-
-        // 3) DTO 매핑
-        return reservations.stream().map(r -> ReservationListItemDto.builder()
-                .id(r.getId())
-                .roomId(r.getRoom().getId())
-                .roomName(r.getRoom().getName())
-                .guest(GuestSimpleDto.builder()
-                        .id(r.getGuest().getId())
-                        .username(r.getGuest().getUsername())
-                        .build())
-                .checkInDate(r.getCheckInDate())
-                .checkOutDate(r.getCheckOutDate())
-                .peopleCount(r.getPeopleCount())
-                .build()
-        ).toList();
-    }
+	static ReservationListItemDto toListItem(HostReservationRow row) {
+		return ReservationListItemDto.builder()
+				.id(row.getId())
+				.roomId(row.getRoomId())
+				.roomName(row.getRoomName())
+				.guest(GuestSimpleDto.builder()
+						.id(row.getGuestId())
+						.username(row.getGuestUsername())
+						.build())
+				.checkInDate(row.getCheckInDate())
+				.checkOutDate(row.getCheckOutDate())
+				.peopleCount(row.getPeopleCount())
+				.build();
+	}
+
+	private static void validateRange(LocalDate from, LocalDate to) {
+		if (from != null && to != null && !from.isBefore(to)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from 은 to 보다 이전 날짜여야 합니다.");
+		}
+	}
 }
@@ -0,0 +1,85 @@
+package com.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 내용 주소(SHA-256) 기반 사진 저장소.
+ * 경로: {upload-root}/blobs/{해시 0-1}/{해시 2-3}/{해시}.png (디렉터리당 파일 수를 제한하는 2단계 분산)
+ * 업로드는 먼저 한 번 읽어 해시만 계산하므로 같은 내용이 다시 올라오면 디스크 쓰기가 전혀 없다.
+ * 새 내용만 transferTo 로 임시 파일에 옮기는데, 디스크에 있는 multipart 임시 파일이 같은 파일시스템이면
+ * 복사 대신 이동(rename)이 된다.
+ */
+@Component
+public class ImageBlobStore {
+	private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+	public record StoredBlob(String hash, long size, Path path, boolean created) {}
+
+	private final Path root;
+
+	public ImageBlobStore(@Value("${app.upload-root:C:/upload}") String uploadRoot) {
+		this.root = Paths.get(uploadRoot, "blobs");
+	}
+
+	public Path blobPath(String hash) {
+		if (!HASH.matcher(hash).matches()) {
+			throw new IllegalArgumentException("잘못된 해시: " + hash);
+		}
+		return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + ".png");
+	}
+
+	public StoredBlob store(MultipartFile file) throws IOException {
+		// 1) 업로드 스트림을 한 번 읽으며 해시 계산 (디스크 쓰기 없음)
+		MessageDigest digest = sha256();
+		long size = 0;
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream in = file.getInputStream()) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+				size += read;
+			}
+		}
+		String hash = HexFormat.of().formatHex(digest.digest());
+		Path target = blobPath(hash);
+
+		// 2) 이미 있는 내용이면 쓰지 않음
+		if (Files.exists(target)) {
+			return new StoredBlob(hash, size, target, false);
+		}
+
+		// 3) 새 내용: 임시 파일로 옮긴 뒤(디스크에 있는 업로드는 이동) 원자적으로 rename
+		Files.createDirectories(target.getParent());
+		Path staging = target.resolveSibling(".upload-" + UUID.randomUUID() + ".tmp");
+		try {
+			file.transferTo(staging.toFile());
+			// 동시에 같은 내용이 올라와도 내용이 같으므로 덮어써도 무방
+			Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(staging);
+		}
+		return new StoredBlob(hash, size, target, true);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,8 +1,13 @@
 // com.backend.service.ImageFileService.java
 package com.backend.service;
 
-import com.backend.repository.GuesthouseRepository;
-import com.backend.repository.RoomRepository;
+import com.backend.entity.Image;
+import com.backend.entity.PhotoKind;
+import com.backend.repository.ImageRepository;
+import com.backend.service.ImageBlobStore.StoredBlob;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,12 +16,19 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
 public class ImageFileService {
-    private final GuesthouseRepository guesthouseRepository;
-    private final RoomRepository roomRepository;
+    private final PhotoIdAllocator photoIdAllocator;
+    private final ExecutorService imageWriteExecutor;
+    private final ImageVariantService imageVariantService;
+    private final ImageBlobStore imageBlobStore;
+    private final ImageRepository imageRepository;
+    private final MeterRegistry meterRegistry;
 
     // 기본값 C:/upload
     @Value("${app.upload-root:C:/upload}")
@@ -24,28 +36,24 @@ public class ImageFileService {
 
     /**
      * files 와 keys 를 같은 순서로 받아 저장.
-     * - key = "cover"      -> Guesthouse.photoId max + 1
-     * - key = "room-<idx>" -> Room.photoId max + 1
-     * 저장 경로:
-     *   C://upload/guesthouse/{photoId}.png
-     *   C://upload/room/{photoId}.png
+     * - key = "cover"      -> 게스트하우스 사진 id 발급
+     * - key = "room-<idx>" -> 객실 사진 id 발급
+     * id 는 PhotoIdAllocator 가 노드 간 중복 없이 발급하므로 업로드끼리 직렬화하지 않는다.
+     * 파일 내용은 ImageBlobStore 에 해시 기준으로 저장(같은 내용은 한 번만)하고,
+     * Image 테이블에 (종류, photoId) -> 해시 매핑을 남긴다.
+     * 파일별 해시/쓰기는 imageWriteExecutor 에서 병렬로 처리하고, 새 내용에 대해서만 variant 생성을 요청한다.
+     * 업로드마다 소요 시간(image.upload), 바이트 수(image.upload.bytes), 파일 수(image.upload.files {blob=new|duplicate})를 기록한다.
      */
-    public synchronized List<Map<String, Object>> saveAll(List<MultipartFile> files, List<String> keys)
+    @Timed(value = "image.upload", histogram = true)
+    public List<Map<String, Object>> saveAll(List<MultipartFile> files, List<String> keys)
             throws IOException {
         if (files == null || keys == null || files.size() != keys.size()) {
             throw new IllegalArgumentException("files와 keys의 길이가 일치해야 합니다.");
         }
 
-        // 현재 글로벌 max 값 조회 (테이블 전체 기준)
-        int nextGh = Optional.ofNullable(guesthouseRepository.findMaxPhotoId()).orElse(0) + 1;
-        int nextRm = Optional.ofNullable(roomRepository.findMaxPhotoId()).orElse(0) + 1;
-
-        List<Map<String, Object>> out = new ArrayList<>(files.size());
-
+        // 1) 전체 검증 (파일을 하나라도 쓰기 전에 실패시키기 위해 먼저 수행)
         for (int i = 0; i < files.size(); i++) {
             MultipartFile file = files.get(i);
-            String key = keys.get(i);
-
             if (file == null || file.isEmpty()) {
                 throw new IllegalArgumentException("비어있는 파일이 있습니다. index=" + i);
             }
@@ -53,31 +61,100 @@ public class ImageFileService {
             if (ct == null || !ct.startsWith("image/")) {
                 throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
             }
+        }
 
-            boolean isCover = "cover".equals(key);
-            int assignedId = isCover ? nextGh++ : nextRm++;
-
-            // 디렉터리: cover -> guesthouse, room-* -> room
-            Path dir = Paths.get(uploadRoot, isCover ? "guesthouses" : "rooms");
-            Files.createDirectories(dir);
-
-            // 확장자는 요구대로 항상 .png (원본 변환 X 주의)
-            Path target = dir.resolve(assignedId + ".png").normalize();
+        // 2) 병렬 저장 (해시 계산 + 새 내용만 쓰기)
+        List<StoredBlob> blobs = storeAll(files);
 
-            // 디렉터리 탈출 방지
-            if (!target.startsWith(dir)) {
-                throw new SecurityException("허용되지 않은 경로입니다.");
+        // 3) id 발급 후 매핑 저장
+        List<Image> images = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            PhotoKind kind = PhotoKind.fromUploadKey(keys.get(i));
+            StoredBlob blob = blobs.get(i);
+            images.add(Image.builder()
+                    .kind(kind)
+                    .photoId(photoIdAllocator.next(kind))
+                    .hash(blob.hash())
+                    .size(blob.size())
+                    .build());
+        }
+        imageRepository.saveAll(images);
+        recordUpload(blobs);
+
+        // 4) 썸네일/리사이즈 이미지는 새 내용에 대해서만 비동기 생성 (생성 전까지는 원본으로 응답)
+        Set<String> requested = new HashSet<>();
+        for (StoredBlob blob : blobs) {
+            if (blob.created() && requested.add(blob.hash())) {
+                imageVariantService.generateVariantsAsync(blob.path());
             }
+        }
 
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-
+        List<Map<String, Object>> out = new ArrayList<>(images.size());
+        for (int i = 0; i < images.size(); i++) {
             Map<String, Object> item = new LinkedHashMap<>();
-            item.put("key", key);
-            item.put("id", assignedId);         // ← photoId
-            item.put("url", target.toString()); // 필요 시 URL 매핑
+            item.put("key", keys.get(i));
+            item.put("id", images.get(i).getPhotoId());     // ← photoId
+            item.put("url", blobs.get(i).path().toString()); // 필요 시 URL 매핑
             out.add(item);
         }
-
         return out;
     }
+
+    /**
+     * 사진 원본 파일 위치. Image 매핑이 있으면 blob, 없으면 blob 저장소 도입 이전의 photoId 파일
+     * (샤딩/평면 배치 모두, PhotoFileLayout 참고).
+     */
+    public Optional<Path> locate(PhotoKind kind, int photoId) {
+        Optional<Path> blob = imageRepository.findById(new Image.Key(kind, photoId))
+                .map(image -> imageBlobStore.blobPath(image.getHash()));
+        if (blob.isPresent()) {
+            return blob;
+        }
+        return PhotoFileLayout.locate(Paths.get(uploadRoot), kind, photoId);
+    }
+
+    private void recordUpload(List<StoredBlob> blobs) {
+        long bytes = 0;
+        int created = 0;
+        for (StoredBlob blob : blobs) {
+            bytes += blob.size();
+            if (blob.created()) created++;
+        }
+        DistributionSummary.builder("image.upload.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes);
+        meterRegistry.counter("image.upload.files", "blob", "new").increment(created);
+        meterRegistry.counter("image.upload.files", "blob", "duplicate").increment(blobs.size() - created);
+    }
+
+    private List<StoredBlob> storeAll(List<MultipartFile> files) throws IOException {
+        List<Future<StoredBlob>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(imageWriteExecutor.submit(() -> imageBlobStore.store(file)));
+        }
+
+        // 요청이 끝나면 multipart 임시 파일이 지워지므로 실패가 있어도 모든 작업이 끝날 때까지 기다린다.
+        // 이미 저장된 blob 은 다른 사진과 공유될 수 있으므로 실패해도 지우지 않는다.
+        List<StoredBlob> blobs = new ArrayList<>(files.size());
+        IOException failure = null;
+        for (Future<StoredBlob> future : futures) {
+            try {
+                blobs.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new IOException("이미지 저장이 중단되었습니다.", e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return blobs;
+    }
 }
@@ -0,0 +1,113 @@
+package com.backend.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.backend.entity.PhotoKind;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 평면 배치의 기존 사진 파일을 샤딩 배치로 옮기는 1회성 도구 (PhotoFileLayout 참고).
+ * app.image.migrate-layout=true 로 기동했을 때만 등록된다. 웹 서버 없이 실행하고 끝내려면:
+ *   java -jar backend.war --app.image.migrate-layout=true --spring.main.web-application-type=none
+ * 서비스 중에 실행해도 조회는 두 배치를 모두 찾으므로 안전하고, 중단 후 다시 실행하면 남은 파일만 옮긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.image.migrate-layout", havingValue = "true")
+public class ImageLayoutMigration implements ApplicationRunner {
+	// {photoId}.png 와 그 variant {photoId}_w{폭}.png
+	private static final Pattern FLAT_NAME = Pattern.compile("(\\d+)(_w\\d+)?\\.png");
+
+	private final Path root;
+
+	public ImageLayoutMigration(@Value("${app.upload-root:C:/upload}") String uploadRoot) {
+		this.root = Paths.get(uploadRoot);
+	}
+
+	public record Result(int moved, int skipped) {}
+
+	@Override
+	public void run(ApplicationArguments args) throws IOException {
+		for (PhotoKind kind : PhotoKind.values()) {
+			Result result = migrate(kind);
+			log.info("사진 배치 이전 완료 ({}): 이동 {}건, 건너뜀 {}건", kind.getDirectory(), result.moved(), result.skipped());
+		}
+	}
+
+	public Result migrate(PhotoKind kind) throws IOException {
+		Path directory = root.resolve(kind.getDirectory());
+		if (!Files.isDirectory(directory)) {
+			return new Result(0, 0);
+		}
+
+		// 원본이 샤딩 위치에 나타나는 시점에 variant 도 이미 옆에 있도록 variant 를 먼저 옮긴다.
+		List<Path> originals = new ArrayList<>();
+		List<Path> variants = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.png")) {
+			for (Path file : files) {
+				Matcher matcher = FLAT_NAME.matcher(file.getFileName().toString());
+				if (Files.isRegularFile(file) && matcher.matches()) {
+					(matcher.group(2) == null ? originals : variants).add(file);
+				}
+			}
+		}
+
+		int moved = 0;
+		int skipped = 0;
+		for (List<Path> group : List.of(variants, originals)) {
+			for (Path file : group) {
+				if (move(kind, file)) {
+					moved++;
+				} else {
+					skipped++;
+				}
+			}
+		}
+		return new Result(moved, skipped);
+	}
+
+	private boolean move(PhotoKind kind, Path file) throws IOException {
+		Matcher matcher = FLAT_NAME.matcher(file.getFileName().toString());
+		matcher.matches();
+		int photoId;
+		try {
+			photoId = Integer.parseInt(matcher.group(1));
+		} catch (NumberFormatException e) {
+			log.warn("photoId 범위를 벗어난 파일은 건너뜀: {}", file);
+			return false;
+		}
+
+		Path target = PhotoFileLayout.shardedPath(root, kind, photoId).resolveSibling(file.getFileName());
+		if (Files.exists(target)) {
+			log.warn("샤딩 위치에 이미 있는 파일은 건너뜀: {}", file);
+			return false;
+		}
+		Files.createDirectories(target.getParent());
+		try {
+			// 같은 파일시스템 안의 rename 이므로 원자적으로 옮겨진다.
+			Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (FileAlreadyExistsException | NoSuchFileException e) {
+			log.warn("이미 이전되었거나 사라진 파일은 건너뜀: {}", file);
+			return false;
+		}
+	}
+}
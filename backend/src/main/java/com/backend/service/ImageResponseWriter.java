@@ -0,0 +1,170 @@
+package com.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 사진 파일 HTTP 응답.
+ * - 내용 해시(SHA-256) 기반 strong ETag (blob 은 파일 이름의 해시 사용), If-None-Match 이면 304
+ * - 사진 id 는 재사용되지 않으므로 1년 immutable 캐시 (variant 대신 원본으로 대체 응답한 경우 제외)
+ * - 단일 byte range(206/416), If-Range 지원
+ * - Tomcat sendfile 을 쓸 수 있으면 커널에서 바로 전송하고, 아니면 FileChannel 로 전송한다.
+ */
+@Component
+public class ImageResponseWriter {
+	static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+	static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	// {sha256} 또는 {sha256}_w{폭}
+	private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}(_w\\d+)?");
+
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+	// ?w= 요청에 variant 가 아직 없어 원본으로 응답한 경우: 곧 바뀔 수 있으므로 짧게만 캐시
+	private static final CacheControl SHORT = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic();
+
+	// 파일별 ETag (경로 + 크기 + 수정 시각이 같으면 재계산하지 않음)
+	private record Fingerprint(long size, long lastModified, String etag) {}
+
+	private final Cache<Path, Fingerprint> etags = Caffeine.newBuilder().maximumSize(50_000).build();
+
+	public void write(Path file, boolean immutable, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		long length = Files.size(file);
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+		String etag = etag(file, length, lastModified);
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? IMMUTABLE : SHORT).getHeaderValue());
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+			return; // 304 (ETag/Last-Modified 헤더는 checkNotModified 가 설정)
+		}
+		response.setContentType(MediaType.IMAGE_PNG_VALUE);
+
+		long start = 0;
+		long end = length - 1;
+		String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+		if (rangeHeader != null && rangeApplies(request, etag)) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(rangeHeader);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			// 여러 구간(multipart/byteranges) 요청은 전체 응답으로 대체 (RFC 9110 허용)
+			if (ranges.size() == 1) {
+				HttpRange range = ranges.get(0);
+				long rangeStart = range.getRangeStart(length);
+				long rangeEnd = range.getRangeEnd(length);
+				if (length == 0 || rangeStart >= length || rangeStart > rangeEnd) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					return;
+				}
+				start = rangeStart;
+				end = rangeEnd;
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+			}
+		}
+
+		long count = end - start + 1;
+		response.setContentLengthLong(Math.max(count, 0));
+		if ("HEAD".equals(request.getMethod()) || count <= 0) {
+			return;
+		}
+
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+			// 응답 본문을 쓰지 않으면 Tomcat 이 서블릿 스레드를 반환한 뒤 sendfile 로 전송한다.
+			request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			OutputStream out = response.getOutputStream();
+			WritableByteChannel target = Channels.newChannel(out);
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long sent = channel.transferTo(position, remaining, target);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+			out.flush();
+		}
+	}
+
+	// If-Range 가 현재 ETag 와 다르면 range 를 무시하고 전체를 보낸다.
+	private boolean rangeApplies(HttpServletRequest request, String etag) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		return ifRange == null || ifRange.equals(etag);
+	}
+
+	String etag(Path file, long length, long lastModified) throws IOException {
+		// blob 과 그 variant 는 파일 이름이 곧 내용 식별자이므로 다시 해시하지 않는다.
+		String name = file.getFileName().toString();
+		String baseName = name.endsWith(".png") ? name.substring(0, name.length() - 4) : name;
+		if (BLOB_NAME.matcher(baseName).matches()) {
+			return "\"" + baseName + "\"";
+		}
+
+		Fingerprint cached = etags.getIfPresent(file);
+		if (cached != null && cached.size() == length && cached.lastModified() == lastModified) {
+			return cached.etag();
+		}
+		String etag = "\"" + sha256(file) + "\"";
+		etags.put(file, new Fingerprint(length, lastModified, etag));
+		return etag;
+	}
+
+	private static String sha256(Path file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+}
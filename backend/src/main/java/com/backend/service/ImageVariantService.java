@@ -0,0 +1,181 @@
+package com.backend.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 사진의 고정 폭 리사이즈 이미지(variant) 생성/조회.
+ * - 원본 옆에 {원본 이름}_w{폭}.png 로 저장 (예: blobs/ab/cd/{해시}_w480.png)
+ * - 원본보다 작은 폭만 만들고, 원본 형식(JPEG/PNG)을 그대로 유지한다.
+ * - 조회 시 요청 폭 이상인 variant 중 가장 작은 것을, 없으면 원본을 돌려준다.
+ * - 헤더의 가로x세로가 maxPixels 를 넘는 이미지(압축 폭탄 포함)는 디코딩하지 않고 건너뛴다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+	private final int[] widths;
+	private final long maxPixels;
+
+	public ImageVariantService(@Value("${app.image.variant-widths:160,480,1080}") int[] widths,
+			@Value("${app.image.max-pixels:40000000}") long maxPixels) {
+		this.widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+		this.maxPixels = maxPixels;
+	}
+
+	public static Path variantPath(Path original, int width) {
+		String name = original.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		String base = dot < 0 ? name : name.substring(0, dot);
+		String extension = dot < 0 ? "" : name.substring(dot);
+		return original.resolveSibling(base + "_w" + width + extension);
+	}
+
+	/** 요청 폭에 맞는 파일. 폭 지정이 없거나 맞는 variant 가 아직 없으면 원본. */
+	public Path resolve(Path original, Integer requestedWidth) {
+		if (requestedWidth == null || requestedWidth <= 0) {
+			return original;
+		}
+		for (int width : widths) {
+			if (width >= requestedWidth) {
+				Path variant = variantPath(original, width);
+				if (Files.exists(variant)) {
+					return variant;
+				}
+			}
+		}
+		return original;
+	}
+
+	@Async("imageVariantExecutor")
+	public void generateVariantsAsync(Path original) {
+		try {
+			generateVariants(original);
+		} catch (IOException | RuntimeException e) {
+			// 실패해도 원본으로 응답되므로 업로드는 성공으로 둔다.
+			log.warn("이미지 variant 생성 실패: {}", original, e);
+		}
+	}
+
+	public void generateVariants(Path original) throws IOException {
+		String format;
+		int originalWidth;
+		BufferedImage source;
+		try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+			Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+			if (readers == null || !readers.hasNext()) {
+				log.warn("지원하지 않는 이미지 형식: {}", original);
+				return;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				format = reader.getFormatName().toLowerCase(Locale.ROOT);
+				originalWidth = reader.getWidth(0);
+				long pixels = (long) originalWidth * reader.getHeight(0);
+				if (pixels > maxPixels) {
+					log.warn("이미지가 너무 커서 variant 를 만들지 않음: {} ({}x{})", original, originalWidth,
+							reader.getHeight(0));
+					return;
+				}
+				int largest = largestWidthBelow(originalWidth);
+				if (largest == 0) {
+					return; // 원본보다 작은 variant 폭이 없음
+				}
+				source = reader.read(0, subsampling(originalWidth, largest));
+			} finally {
+				reader.dispose();
+			}
+		}
+
+		for (int width : widths) {
+			if (width >= originalWidth) {
+				break; // 확대는 하지 않음
+			}
+			Path variant = variantPath(original, width);
+			if (Files.exists(variant)) {
+				continue; // 같은 내용의 blob 으로 이미 생성됨
+			}
+			write(resize(source, width, format), format, variant);
+		}
+	}
+
+	private int largestWidthBelow(int originalWidth) {
+		int largest = 0;
+		for (int width : widths) {
+			if (width < originalWidth) {
+				largest = width;
+			}
+		}
+		return largest;
+	}
+
+	/**
+	 * 가장 큰 variant 폭의 2배 이상을 유지하는 범위에서 행/열을 건너뛰며 디코딩.
+	 * 큰 원본을 전체 해상도로 읽은 뒤 절반씩 줄이는 대신 읽을 때부터 줄여 메모리와 시간을 아낀다.
+	 */
+	private static ImageReadParam subsampling(int originalWidth, int largestWidth) {
+		ImageReadParam param = new ImageReadParam();
+		int factor = Math.max(1, originalWidth / (largestWidth * 2));
+		param.setSourceSubsampling(factor, factor, 0, 0);
+		return param;
+	}
+
+	// 절반씩 줄이다가 마지막에 목표 폭으로 보간 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+	private BufferedImage resize(BufferedImage source, int targetWidth, String format) {
+		int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+		boolean keepAlpha = source.getColorModel().hasAlpha() && !"jpeg".equals(format);
+		int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+		BufferedImage current = source;
+		int w = source.getWidth();
+		int h = source.getHeight();
+		do {
+			w = Math.max(targetWidth, w / 2);
+			h = Math.max(targetHeight, h / 2);
+			BufferedImage step = new BufferedImage(w, h, type);
+			Graphics2D g = step.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				g.drawImage(current, 0, 0, w, h, null);
+			} finally {
+				g.dispose();
+			}
+			current = step;
+		} while (w != targetWidth || h != targetHeight);
+		return current;
+	}
+
+	// 임시 파일에 쓰고 이동: 쓰는 도중의 variant 가 조회되지 않도록 한다.
+	private void write(BufferedImage image, String format, Path target) throws IOException {
+		Path staging = target.resolveSibling(".variant-" + UUID.randomUUID() + ".tmp");
+		try {
+			if (!ImageIO.write(image, format, staging.toFile())) {
+				throw new IOException("이미지 writer 없음: " + format);
+			}
+			Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(staging);
+		}
+	}
+}
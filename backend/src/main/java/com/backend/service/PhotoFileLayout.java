@@ -0,0 +1,44 @@
+package com.backend.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import com.backend.entity.PhotoKind;
+
+/**
+ * blob 저장소 도입 이전에 photoId 로 저장된 사진 파일의 디렉터리 배치.
+ * - 평면(기존): {root}/{종류}/{photoId}.png
+ * - 샤딩: {root}/{종류}/{id 하위 1바이트 hex}/{그 다음 바이트 hex}/{photoId}.png
+ *   예: photoId 74565 (0x00012345) -> rooms/45/23/74565.png
+ * 연속 발급되는 id 가 256 x 256 디렉터리에 고르게 퍼지도록 하위 바이트부터 쓴다.
+ * 이전 중에는 두 배치가 섞여 있으므로 조회는 샤딩 -> 평면 순으로 찾는다.
+ */
+public final class PhotoFileLayout {
+	private PhotoFileLayout() {
+	}
+
+	public static Path flatPath(Path root, PhotoKind kind, int photoId) {
+		return root.resolve(kind.getDirectory()).resolve(photoId + ".png");
+	}
+
+	public static Path shardedPath(Path root, PhotoKind kind, int photoId) {
+		return root.resolve(kind.getDirectory())
+				.resolve(String.format("%02x", photoId & 0xff))
+				.resolve(String.format("%02x", (photoId >>> 8) & 0xff))
+				.resolve(photoId + ".png");
+	}
+
+	public static Optional<Path> locate(Path root, PhotoKind kind, int photoId) {
+		Path sharded = shardedPath(root, kind, photoId);
+		if (Files.isRegularFile(sharded)) {
+			return Optional.of(sharded);
+		}
+		Path flat = flatPath(root, kind, photoId);
+		if (Files.isRegularFile(flat)) {
+			return Optional.of(flat);
+		}
+		// 두 확인 사이에 이전 도구가 파일을 옮겼을 수 있다.
+		return Files.isRegularFile(sharded) ? Optional.of(sharded) : Optional.empty();
+	}
+}
@@ -0,0 +1,131 @@
+package com.backend.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.backend.entity.PhotoIdSequence;
+import com.backend.entity.PhotoKind;
+import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.PhotoIdSequenceRepository;
+import com.backend.repository.RoomRepository;
+
+/**
+ * 사진 id 발급기 (hi-lo).
+ * - photo_id_sequence 테이블에서 종류별로 blockSize 개씩 id 범위를 예약하고(행 잠금, 별도 트랜잭션),
+ *   예약한 범위는 AtomicInteger 로 잠금 없이 나눠준다.
+ * - 블록을 다 쓴 경우에만 종류별 잠금을 잡고 다음 블록을 예약한다.
+ * 노드마다 서로 다른 블록을 쓰므로 중복 id 가 나오지 않는다. 재시작 시 남은 블록 id 는 건너뛴다.
+ */
+@Component
+public class PhotoIdAllocator {
+	private final PhotoIdSequenceRepository sequenceRepository;
+	private final GuesthouseRepository guesthouseRepository;
+	private final RoomRepository roomRepository;
+	private final TransactionOperations newTransaction;
+	private final int blockSize;
+
+	private final Map<PhotoKind, Slot> slots = new EnumMap<>(PhotoKind.class);
+
+	@Autowired
+	public PhotoIdAllocator(PhotoIdSequenceRepository sequenceRepository, GuesthouseRepository guesthouseRepository,
+			RoomRepository roomRepository, PlatformTransactionManager transactionManager,
+			@Value("${app.photo-id.block-size:100}") int blockSize) {
+		this(sequenceRepository, guesthouseRepository, roomRepository, requiresNew(transactionManager), blockSize);
+	}
+
+	PhotoIdAllocator(PhotoIdSequenceRepository sequenceRepository, GuesthouseRepository guesthouseRepository,
+			RoomRepository roomRepository, TransactionOperations newTransaction, int blockSize) {
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize must be positive");
+		}
+		this.sequenceRepository = sequenceRepository;
+		this.guesthouseRepository = guesthouseRepository;
+		this.roomRepository = roomRepository;
+		this.newTransaction = newTransaction;
+		this.blockSize = blockSize;
+		for (PhotoKind kind : PhotoKind.values()) {
+			slots.put(kind, new Slot());
+		}
+	}
+
+	private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return template;
+	}
+
+	public int next(PhotoKind kind) {
+		Slot slot = slots.get(kind);
+		while (true) {
+			Block block = slot.current;
+			if (block != null) {
+				int id = block.next.getAndIncrement();
+				if (id < block.limit) {
+					return id;
+				}
+			}
+			slot.refillLock.lock();
+			try {
+				// 다른 스레드가 먼저 채웠으면 그 블록을 사용
+				if (slot.current == block) {
+					int start = reserveBlock(kind);
+					slot.current = new Block(start, start + blockSize);
+				}
+			} finally {
+				slot.refillLock.unlock();
+			}
+		}
+	}
+
+	// 호출 측 트랜잭션과 무관하게 즉시 커밋해 행 잠금을 짧게 유지한다.
+	private int reserveBlock(PhotoKind kind) {
+		try {
+			return newTransaction.execute(status -> reserveInTransaction(kind));
+		} catch (DataIntegrityViolationException e) {
+			// 최초 행을 다른 노드가 동시에 만든 경우: 만들어진 행으로 다시 예약
+			return newTransaction.execute(status -> reserveInTransaction(kind));
+		}
+	}
+
+	private int reserveInTransaction(PhotoKind kind) {
+		PhotoIdSequence sequence = sequenceRepository.findForUpdate(kind)
+				.orElseGet(() -> PhotoIdSequence.builder().kind(kind).nextValue(maxPhotoId(kind) + 1).build());
+		int start = sequence.reserve(blockSize);
+		sequenceRepository.saveAndFlush(sequence);
+		return start;
+	}
+
+	// 시퀀스 행이 없을 때(최초 기동) 기존 데이터 다음 번호부터 시작
+	private int maxPhotoId(PhotoKind kind) {
+		Integer max = kind == PhotoKind.GUESTHOUSE ? guesthouseRepository.findMaxPhotoId()
+				: roomRepository.findMaxPhotoId();
+		return Optional.ofNullable(max).orElse(0);
+	}
+
+	private static final class Slot {
+		private final ReentrantLock refillLock = new ReentrantLock();
+		private volatile Block current;
+	}
+
+	private static final class Block {
+		private final AtomicInteger next;
+		private final int limit;
+
+		Block(int start, int limit) {
+			this.next = new AtomicInteger(start);
+			this.limit = limit;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 호스트 예약 목록 키셋 커서. "체크인 날짜|id" 를 base64url 로 감싼 불투명 문자열로 전달한다.
+ */
+record ReservationCursor(LocalDate checkInDate, int lastId) {
+
+	String encode() {
+		String raw = checkInDate + "|" + lastId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static ReservationCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 2) {
+				throw new IllegalArgumentException(raw);
+			}
+			return new ReservationCursor(LocalDate.parse(parts[0]), Integer.parseInt(parts[1]));
+		} catch (RuntimeException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+		}
+	}
+}
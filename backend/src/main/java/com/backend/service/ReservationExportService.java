@@ -0,0 +1,86 @@
+package com.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.dto.request.ReservationExportFormat;
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.HostReservationRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게스트하우스 예약 내보내기 (CSV / NDJSON).
+ * 예약을 목록으로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 응답에 쓰므로
+ * 예약 수와 관계없이 메모리 사용량이 일정하다. 소유 검증은 호출 전에 GuesthouseService.verifyOwner 로 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+	static final String CSV_HEADER = "id,room_id,room_name,guest_id,guest_username,check_in_date,check_out_date,people_count";
+
+	private final ReservationRepository reservationRepository;
+	private final ObjectMapper objectMapper;
+
+	@Transactional(readOnly = true)
+	public void export(Integer guesthouseId, ReservationExportFormat format, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+		try (Stream<HostReservationRow> rows = reservationRepository.streamForExport(guesthouseId)) {
+			if (format == ReservationExportFormat.CSV) {
+				writer.write(CSV_HEADER);
+				writer.write('\n');
+			}
+			Iterator<HostReservationRow> it = rows.iterator();
+			while (it.hasNext()) {
+				HostReservationRow row = it.next();
+				if (format == ReservationExportFormat.CSV) {
+					writeCsv(writer, row);
+				} else {
+					// 목록 API(ReservationListItemDto)와 같은 JSON 모양으로 한 줄에 한 건
+					writer.write(objectMapper.writeValueAsString(GuesthouseService.toListItem(row)));
+				}
+				writer.write('\n');
+			}
+		}
+		writer.flush();
+	}
+
+	private static void writeCsv(Writer writer, HostReservationRow row) throws IOException {
+		writer.write(String.valueOf(row.getId()));
+		writer.write(',');
+		writer.write(String.valueOf(row.getRoomId()));
+		writer.write(',');
+		writer.write(csvField(row.getRoomName()));
+		writer.write(',');
+		writer.write(String.valueOf(row.getGuestId()));
+		writer.write(',');
+		writer.write(csvField(row.getGuestUsername()));
+		writer.write(',');
+		writer.write(String.valueOf(row.getCheckInDate()));
+		writer.write(',');
+		writer.write(String.valueOf(row.getCheckOutDate()));
+		writer.write(',');
+		writer.write(String.valueOf(row.getPeopleCount()));
+	}
+
+	// RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+	static String csvField(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
@@ -6,18 +6,24 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.backend.dto.request.ReservationRequest;
 import com.backend.dto.response.ReservationResponse;
+import com.backend.entity.CapacityCalculator;
 import com.backend.entity.Reservation;
 import com.backend.entity.Room;
 import com.backend.entity.User;
 import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.MyReservationRow;
+import com.backend.repository.ReservationRepository.OccupancyRow;
 import com.backend.repository.RoomRepository;
 import com.backend.repository.UserRepository;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -32,33 +38,75 @@ public class ReservationService {
 	@Autowired
 	private final RoomRepository roomRepository;
 	
-	@Transactional
+	private final RoomOccupancyIndex occupancyIndex;
+	
+	private final RoomLocks roomLocks;
+	
+	private final GuesthouseSearchCache searchCache;
+	
+	private final MeterRegistry meterRegistry;
+	
+	private final TransactionOperations transactionOperations;
+	
+	// reservation.create.result {outcome} 카운터 값
+	static final String RESULT_METRIC = "reservation.create.result";
+	static final String ACCEPTED = "accepted";
+	static final String REJECTED_CAPACITY = "rejected_capacity";
+	static final String REJECTED_INVALID = "rejected_invalid";
+	
+	/**
+	 * 예약 생성. 같은 객실 예약은 노드 내에서는 striped lock 으로 먼저 줄 세우고,
+	 * 노드 간에는 객실 행 잠금(SELECT ... FOR UPDATE)으로 확인~저장 사이의 초과 예약을 막는다.
+	 * stripe 는 트랜잭션을 시작(커넥션 획득)하기 전에 잡아 대기 중인 요청이 커넥션을 점유하지 않게 하고,
+	 * 커밋 이후에 풀어 다음 요청이 방금 저장된 예약을 보게 한다.
+	 */
+	@Timed(value = "reservation.create", histogram = true)
 	public boolean createReservation(Integer userId, ReservationRequest request) {
         // 0) 기초 검증
-        if (request.getPeopleCount() == null || request.getPeopleCount() <= 0) return false;
-        if (request.getCheckInDate() == null || request.getCheckOutDate() == null) return false;
-        if (!request.getCheckInDate().isBefore(request.getCheckOutDate())) return false;
+        if (request.getRoomId() == null
+                || request.getPeopleCount() == null || request.getPeopleCount() <= 0
+                || request.getCheckInDate() == null || request.getCheckOutDate() == null
+                || !request.getCheckInDate().isBefore(request.getCheckOutDate())) {
+            return result(REJECTED_INVALID);
+        }
+
+        try (RoomLocks.Held held = roomLocks.hold(request.getRoomId())) {
+            return result(transactionOperations.execute(status -> reserve(userId, request)));
+        }
+    }
 
-        // 1) 엔티티 조회
+    // 트랜잭션 안에서 실행. 결과 카운터 값(outcome)을 돌려준다.
+    private String reserve(Integer userId, ReservationRequest request) {
+        // 1) 엔티티 조회 (객실은 행 잠금)
         User guest = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        // (선택) 방 레코드에 잠금 걸기: RoomRepository에 잠금 메서드 추가 권장 (아래 주석 참고)
-        Room room = roomRepository.findById(request.getRoomId())
+        Room room = roomRepository.findByIdForUpdate(request.getRoomId())
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
-        // 2) 현재 기간에 이미 예약된 인원 합계 조회
-        int alreadyReserved = reservationRepository.sumPeopleCountForOverlap(
+        // 2) 메모리 점유 인덱스: 다른 노드의 취소는 반영되지 않아 실제보다 많을 수 있으므로
+        //    정원 초과로 보여도 바로 거절하지 않고 아래 DB 판정을 따른다.
+        boolean indexFull = !occupancyIndex.isAvailable(room.getId(), room.getCapacity(),
+                request.getCheckInDate(), request.getCheckOutDate(), request.getPeopleCount());
+
+        // 3) 기간 중 가장 붐비는 박의 예약 인원 계산 (최종 판정)
+        //    겹치는 예약 인원을 단순 합산하면 서로 다른 날 묵는 예약까지 더해져 빈 방을 거절하게 된다.
+        List<OccupancyRow> overlapping = reservationRepository.findOverlappingStays(
                 room.getId(), request.getCheckInDate(), request.getCheckOutDate());
+        if (indexFull) {
+            // 인덱스가 어긋났을 수 있으므로 방금 읽은 예약으로 이 기간을 다시 맞춘다
+            occupancyIndex.resync(room.getId(), request.getCheckInDate(), request.getCheckOutDate(), overlapping);
+        }
+        int alreadyReserved = CapacityCalculator.peakOccupancy(
+                overlapping, request.getCheckInDate(), request.getCheckOutDate());
 
         int remaining = room.getCapacity() - alreadyReserved;
 
-        // 3) 현재 요청 인원 수용 가능 여부 확인
+        // 4) 현재 요청 인원 수용 가능 여부 확인
         if (request.getPeopleCount() > remaining) {
-            return false; // 정원 초과
+            return REJECTED_CAPACITY; // 정원 초과
         }
 
-        // 4) 저장
+        // 5) 저장
         Reservation reservation = Reservation.builder()
                 .guest(guest)
                 .room(room)
@@ -68,29 +116,40 @@ public class ReservationService {
                 .build();
 
         reservationRepository.save(reservation);
-        return true;
+        occupancyIndex.reservationCreated(room.getId(), reservation.getCheckInDate(),
+                reservation.getCheckOutDate(), reservation.getPeopleCount());
+        searchCache.reservationChanged(reservation.getCheckInDate(), reservation.getCheckOutDate());
+        return ACCEPTED;
+    }
+
+    private boolean result(String outcome) {
+        meterRegistry.counter(RESULT_METRIC, "outcome", outcome).increment();
+        return ACCEPTED.equals(outcome);
     }
 	
 	public List<ReservationResponse> getMyReservations(Integer guestId) {
-	    List<Reservation> reservations = reservationRepository.findByGuest_Id(guestId);
-	    List<ReservationResponse> responses = new ArrayList<>();
+	    return getMyReservations(guestId, Pageable.unpaged());
+	}
 
-	    for (Reservation r : reservations) {
-	        ReservationResponse response = ReservationResponse.builder()
-	                .id(r.getId())
-	                .roomId(r.getRoom().getId())
-	                .guesthouseId(r.getRoom().getGuesthouse().getId())
-	                .guesthouseName(r.getRoom().getGuesthouse().getName())
-	                .checkInDate(r.getCheckInDate())
-	                .checkOutDate(r.getCheckOutDate())
-	                .peopleCount(r.getPeopleCount())
-	                .reviewId(r.getReview() != null ? r.getReview().getId() : null)
-	                .reviewComment(r.getReview() != null ? r.getReview().getComment() : null)
-	                .build();
-
-	        responses.add(response);
+	/**
+	 * 내 예약 목록 (최근 체크인 순). 예약마다 객실/게스트하우스/리뷰를 지연 로딩하지 않도록
+	 * 응답에 필요한 컬럼만 projection 으로 한 번에 조회한다.
+	 */
+	public List<ReservationResponse> getMyReservations(Integer guestId, Pageable pageable) {
+	    List<ReservationResponse> responses = new ArrayList<>();
+	    for (MyReservationRow row : reservationRepository.findMyReservations(guestId, pageable)) {
+	        responses.add(ReservationResponse.builder()
+	                .id(row.getId())
+	                .roomId(row.getRoomId())
+	                .guesthouseId(row.getGuesthouseId())
+	                .guesthouseName(row.getGuesthouseName())
+	                .checkInDate(row.getCheckInDate())
+	                .checkOutDate(row.getCheckOutDate())
+	                .peopleCount(row.getPeopleCount())
+	                .reviewId(row.getReviewId())
+	                .reviewComment(row.getReviewComment())
+	                .build());
 	    }
-
 	    return responses;
 	}
 
@@ -100,6 +159,9 @@ public class ReservationService {
                 .map(r -> {
                     if (LocalDate.now().isBefore(r.getCheckInDate())) {
                         reservationRepository.delete(r);
+                        occupancyIndex.reservationCancelled(r.getRoom().getId(), r.getCheckInDate(),
+                                r.getCheckOutDate(), r.getPeopleCount());
+                        searchCache.reservationChanged(r.getCheckInDate(), r.getCheckOutDate());
                         return true;
                     } else {
                         return false;
@@ -16,7 +16,6 @@ import org.springframework.web.server.ResponseStatusException;
 import com.backend.dto.request.ReviewCreateRequest;
 import com.backend.dto.request.ReviewUpdateRequest;
 import com.backend.dto.response.ReviewResponseDto;
-import com.backend.entity.Guesthouse;
 import com.backend.entity.Reservation;
 import com.backend.entity.Review;
 import com.backend.repository.GuesthouseRepository;
@@ -24,6 +23,7 @@ import com.backend.repository.ReservationRepository;
 import com.backend.repository.ReviewRepository;
 import com.backend.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -33,8 +33,10 @@ public class ReviewService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final GuesthouseRepository guesthouseRepository;
+    private final GuesthouseSearchCache searchCache;
 
     @Transactional
+    @Timed(value = "review.rating.update", extraTags = {"operation", "create"}, histogram = true)
     public ReviewResponseDto createReview(Integer userId, ReviewCreateRequest request) {    	
     	Reservation reservation = reservationRepository.findById(request.getReservationId())
     	        .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "예약이 존재하지 않습니다."));
@@ -58,10 +60,8 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
         
-        // Reservation의 Rating 업데이트
-        System.out.println("전 = " + reservation.getRoom().getGuesthouse().getRating());
-        updateRating(reservation.getRoom().getGuesthouse().getId());
-        System.out.println("후 = " + reservation.getRoom().getGuesthouse().getRating());
+        // 게스트하우스 평점 집계에 반영 (전체 리뷰 AVG 재계산 없이 합계/개수만 증가)
+        applyReviewDelta(reservation, savedReview.getRating(), 1);
 
         // Builder 패턴으로 DTO 반환
         return ReviewResponseDto.builder()
@@ -73,17 +73,22 @@ public class ReviewService {
                 .build();
     }
     
-    @Transactional
-    public void updateRating(Integer guesthouseId) {
-        Double avg = reviewRepository.calculateAverageRating(guesthouseId);
-        Guesthouse guesthouse = guesthouseRepository.findById(guesthouseId)
-                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "게스트하우스가 존재하지 않습니다."));
-        
-        guesthouse.updateRating(avg != null ? Math.round(avg * 10) / 10.0 : 0.0);
-        guesthouseRepository.save(guesthouse); 
+    private Integer guesthouseIdOf(Reservation reservation) {
+        return reservation.getRoom().getGuesthouse().getId();
+    }
+
+    // 게스트하우스 행을 잠근 뒤 관리 엔티티의 집계를 바꾼다: 2차 캐시는 해당 게스트하우스 항목만 갱신된다.
+    // 검색 결과에도 평점이 들어 있으므로 그 게스트하우스가 포함된 검색 캐시를 커밋 후 무효화한다.
+    private void applyReviewDelta(Reservation reservation, int sumDelta, int countDelta) {
+        Integer guesthouseId = guesthouseIdOf(reservation);
+        guesthouseRepository.findByIdForUpdate(guesthouseId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "게스트하우스가 존재하지 않습니다."))
+                .applyReviewDelta(sumDelta, countDelta);
+        searchCache.guesthouseChanged(guesthouseId);
     }
 
     @Transactional
+    @Timed(value = "review.rating.update", extraTags = {"operation", "update"}, histogram = true)
     public boolean updateReview(Integer userId, int reviewId, ReviewUpdateRequest request) {
         Optional<Review> reviewOpt = reviewRepository.findById(reviewId);
         if (reviewOpt.isEmpty()) return false;
@@ -93,12 +98,20 @@ public class ReviewService {
         if (!review.getReservation().getGuest().getId().equals(userId)) return false;
 
         // 엔티티의 updateReview() 사용
+        int previousRating = review.getRating();
         review.updateReview(request.getRating(), request.getComment());
         reviewRepository.save(review);
+
+        // 평점이 바뀐 경우에만 합계 보정
+        int ratingDelta = review.getRating() - previousRating;
+        if (ratingDelta != 0) {
+            applyReviewDelta(review.getReservation(), ratingDelta, 0);
+        }
         return true;
     }
 
     @Transactional
+    @Timed(value = "review.rating.update", extraTags = {"operation", "delete"}, histogram = true)
     public boolean deleteReview(Integer userId, int reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰가 존재하지 않습니다."));
@@ -107,6 +120,7 @@ public class ReviewService {
         reservation.deleteReview();
 
         reviewRepository.delete(review);
+        applyReviewDelta(reservation, -review.getRating(), -1);
         return true;
     }
     
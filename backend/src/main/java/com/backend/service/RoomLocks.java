@@ -0,0 +1,56 @@
+package com.backend.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 객실 id 기준 striped lock.
+ * 같은 노드에서 같은 객실로 몰리는 예약 요청을 메모리에서 먼저 줄 세워 DB 행 잠금 대기(커넥션 점유)를 줄인다.
+ * 노드 간 정합성은 RoomRepository.findByIdForUpdate 의 행 잠금이 보장한다.
+ */
+@Component
+public class RoomLocks {
+	private final ReentrantLock[] stripes;
+
+	public RoomLocks(@Value("${app.reservation.lock-stripes:64}") int stripeCount) {
+		if (stripeCount <= 0) {
+			throw new IllegalArgumentException("stripeCount must be positive");
+		}
+		this.stripes = new ReentrantLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 객실 잠금을 획득한다.
+	 * 트랜잭션 안이면 잠금은 커밋/롤백 이후에 풀리고(반환값 close 는 아무것도 하지 않음),
+	 * 트랜잭션 밖이면 반환값을 close 할 때 풀린다. try-with-resources 로 사용한다.
+	 */
+	public Held hold(int roomId) {
+		ReentrantLock lock = stripes[Math.floorMod(roomId, stripes.length)];
+		lock.lock();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return lock::unlock;
+		}
+		// 커밋 전에 풀면 다음 요청이 아직 보이지 않는 예약을 놓치고 DB 잠금에서 다시 대기하게 된다.
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				lock.unlock();
+			}
+		});
+		return () -> {
+		};
+	}
+
+	@FunctionalInterface
+	public interface Held extends AutoCloseable {
+		@Override
+		void close();
+	}
+}
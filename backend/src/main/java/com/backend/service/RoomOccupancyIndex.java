@@ -0,0 +1,200 @@
+package com.backend.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.OccupancyRow;
+
+/**
+ * 객실별/박(night)별 예약 인원 인덱스.
+ * - 객실마다 오늘부터 horizonDays 일 만큼의 int 링버퍼를 두고, 박 단위 예약 인원을 누적한다.
+ * - 기동 시 ReservationRepository 에서 한 번 적재하고, 이후에는 예약 생성/취소 커밋 시점에 갱신한다.
+ * - "객실 R 에 D1~D2 동안 N명 가능?" 을 DB 조회/엔티티 생성 없이 O(박 수)로 답한다.
+ * 다른 노드의 변경은 반영되지 않아 실제보다 많거나 적을 수 있으므로 거절 판정에 단독으로 쓰지 않는다.
+ * 정원 초과로 보이면 ReservationService 가 DB 로 다시 확인하고, 읽은 예약으로 그 기간을 다시 맞춘다(resync).
+ */
+@Component
+public class RoomOccupancyIndex implements SmartInitializingSingleton {
+	/** 인덱스 범위 밖(과거 날짜, horizon 이후) 또는 적재 전이라 판단할 수 없음 */
+	public static final int UNKNOWN = -1;
+
+	private final ReservationRepository reservationRepository;
+	private final int horizonDays;
+	private final Supplier<LocalDate> today;
+
+	private final Map<Integer, RoomNights> rooms = new ConcurrentHashMap<>();
+	private volatile boolean loaded;
+
+	@Autowired
+	public RoomOccupancyIndex(ReservationRepository reservationRepository,
+			@Value("${app.occupancy.horizon-days:365}") int horizonDays) {
+		this(reservationRepository, horizonDays, LocalDate::now);
+	}
+
+	RoomOccupancyIndex(ReservationRepository reservationRepository, int horizonDays, Supplier<LocalDate> today) {
+		if (horizonDays <= 0) {
+			throw new IllegalArgumentException("horizonDays must be positive");
+		}
+		this.reservationRepository = reservationRepository;
+		this.horizonDays = horizonDays;
+		this.today = today;
+	}
+
+	// 웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 적재해 적재 중 예약 변경과 경합하지 않도록 한다.
+	@Override
+	public void afterSingletonsInstantiated() {
+		load();
+	}
+
+	public void load() {
+		LocalDate now = today.get();
+		rooms.clear();
+		for (OccupancyRow row : reservationRepository.findOccupancyFrom(now)) {
+			nights(row.getRoomId(), now).add(now, row.getCheckInDate(), row.getCheckOutDate(), row.getPeopleCount());
+		}
+		loaded = true;
+	}
+
+	/**
+	 * [checkIn, checkOut) 기간 중 가장 많이 예약된 박의 인원 수.
+	 * 판단할 수 없으면 {@link #UNKNOWN}.
+	 */
+	public int peakOccupancy(int roomId, LocalDate checkIn, LocalDate checkOut) {
+		LocalDate now = today.get();
+		if (!loaded || checkIn.isBefore(now) || checkOut.isAfter(now.plusDays(horizonDays))) {
+			return UNKNOWN;
+		}
+		RoomNights nights = rooms.get(roomId);
+		return nights == null ? 0 : nights.peak(now, checkIn, checkOut);
+	}
+
+	public boolean isAvailable(int roomId, int capacity, LocalDate checkIn, LocalDate checkOut, int people) {
+		int peak = peakOccupancy(roomId, checkIn, checkOut);
+		return peak == UNKNOWN || capacity - peak >= people;
+	}
+
+	// 예약 생성/취소는 커밋 이후에만 반영 (롤백된 예약이 인덱스에 남지 않도록)
+	public void reservationCreated(int roomId, LocalDate checkIn, LocalDate checkOut, int people) {
+		TransactionCallbacks.afterCommit(() -> apply(roomId, checkIn, checkOut, people));
+	}
+
+	public void reservationCancelled(int roomId, LocalDate checkIn, LocalDate checkOut, int people) {
+		TransactionCallbacks.afterCommit(() -> apply(roomId, checkIn, checkOut, -people));
+	}
+
+	/**
+	 * [checkIn, checkOut) 기간의 박별 인원을 DB 에서 읽은 예약(그 기간과 겹치는 전부)으로 다시 계산해 덮어쓴다.
+	 * 다른 노드의 생성/취소로 어긋난 값을 바로잡는다. 객실 행 잠금 안에서 호출한다.
+	 */
+	public void resync(int roomId, LocalDate checkIn, LocalDate checkOut, List<OccupancyRow> stays) {
+		LocalDate now = today.get();
+		if (!loaded) {
+			return;
+		}
+		nights(roomId, now).set(now, checkIn, checkOut, stays);
+	}
+
+	private void apply(int roomId, LocalDate checkIn, LocalDate checkOut, int delta) {
+		LocalDate now = today.get();
+		nights(roomId, now).add(now, checkIn, checkOut, delta);
+	}
+
+	private RoomNights nights(int roomId, LocalDate now) {
+		return rooms.computeIfAbsent(roomId, id -> new RoomNights(horizonDays, now.toEpochDay()));
+	}
+
+	/**
+	 * 한 객실의 박별 인원 링버퍼. 슬롯 = epochDay % horizon.
+	 * 날짜가 바뀌면 지난 박의 슬롯을 비워 horizon 끝의 새 박으로 재사용한다.
+	 * 가상 스레드가 경합 중인 모니터에서 대기하면 캐리어 스레드를 붙잡으므로 synchronized 대신 ReentrantLock.
+	 */
+	private static final class RoomNights {
+		private final int[] people;
+		private final ReentrantLock lock = new ReentrantLock();
+		private long startDay;
+
+		RoomNights(int horizonDays, long startDay) {
+			this.people = new int[horizonDays];
+			this.startDay = startDay;
+		}
+
+		/*
+		 * 적재/생성 시점의 horizon 밖 박은 기록되지 않는다. horizon 이 지난 뒤 취소되면 그 박에서는 기록되지 않은 인원을
+		 * 빼게 되므로 0 아래로 내려가지 않게 한다 (그런 박은 실제보다 적게 셀 수 있고, 인덱스는 단독으로 거절하지 않는다).
+		 */
+		void add(LocalDate now, LocalDate checkIn, LocalDate checkOut, int delta) {
+			lock.lock();
+			try {
+				long today = now.toEpochDay();
+				roll(today);
+				long from = Math.max(checkIn.toEpochDay(), today);
+				long to = Math.min(checkOut.toEpochDay(), today + people.length);
+				for (long day = from; day < to; day++) {
+					people[slot(day)] = Math.max(0, people[slot(day)] + delta);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void set(LocalDate now, LocalDate checkIn, LocalDate checkOut, List<OccupancyRow> stays) {
+			lock.lock();
+			try {
+				long today = now.toEpochDay();
+				roll(today);
+				long from = Math.max(checkIn.toEpochDay(), today);
+				long to = Math.min(checkOut.toEpochDay(), today + people.length);
+				for (long day = from; day < to; day++) {
+					people[slot(day)] = 0;
+				}
+				for (OccupancyRow stay : stays) {
+					long stayFrom = Math.max(stay.getCheckInDate().toEpochDay(), from);
+					long stayTo = Math.min(stay.getCheckOutDate().toEpochDay(), to);
+					for (long day = stayFrom; day < stayTo; day++) {
+						people[slot(day)] += stay.getPeopleCount();
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int peak(LocalDate now, LocalDate checkIn, LocalDate checkOut) {
+			lock.lock();
+			try {
+				roll(now.toEpochDay());
+				int max = 0;
+				for (long day = checkIn.toEpochDay(); day < checkOut.toEpochDay(); day++) {
+					max = Math.max(max, people[slot(day)]);
+				}
+				return max;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void roll(long today) {
+			long passed = Math.min(today - startDay, people.length);
+			for (long i = 0; i < passed; i++) {
+				people[slot(startDay + i)] = 0;
+			}
+			if (today > startDay) {
+				startDay = today;
+			}
+		}
+
+		private int slot(long day) {
+			return (int) Math.floorMod(day, (long) people.length);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.backend.dto.request.GuesthouseSearchSort;
+
+/**
+ * 검색 키셋 커서. 클라이언트에는 "정렬|정렬값|id" 를 base64url 로 감싼 불투명 문자열로 전달한다.
+ * 정렬 기준을 함께 담아 다른 정렬에 커서를 재사용하는 요청은 거절한다.
+ */
+record SearchCursor(GuesthouseSearchSort sort, String sortValue, int lastId) {
+
+	String encode() {
+		String raw = sort.getValue() + "|" + (sortValue == null ? "" : sortValue) + "|" + lastId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	Integer intValue() {
+		return Integer.valueOf(sortValue);
+	}
+
+	Double doubleValue() {
+		return Double.valueOf(sortValue);
+	}
+
+	static SearchCursor decode(String cursor, GuesthouseSearchSort expectedSort) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 3 || GuesthouseSearchSort.from(parts[0]) != expectedSort) {
+				throw new IllegalArgumentException(raw);
+			}
+			SearchCursor decoded = new SearchCursor(expectedSort, parts[1], Integer.parseInt(parts[2]));
+			// 정렬값 형식 검증
+			if (expectedSort == GuesthouseSearchSort.MIN_PRICE) decoded.intValue();
+			if (expectedSort == GuesthouseSearchSort.RATING) decoded.doubleValue();
+			return decoded;
+		} catch (IllegalArgumentException | ResponseStatusException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+		}
+	}
+}
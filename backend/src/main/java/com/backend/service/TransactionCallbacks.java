@@ -0,0 +1,26 @@
+package com.backend.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 상태(인덱스/캐시)를 DB 커밋 결과와 맞추기 위한 트랜잭션 콜백 유틸.
+ * 트랜잭션 밖(단위 테스트, 비트랜잭션 메서드)에서는 즉시 실행한다.
+ */
+final class TransactionCallbacks {
+	private TransactionCallbacks() {
+	}
+
+	static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
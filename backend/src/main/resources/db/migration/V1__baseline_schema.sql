@@ -0,0 +1,67 @@
+-- 기존 스키마 (ddl-auto 로 생성되던 테이블). 운영 DB 는 baseline-version=1 로 이 단계를 건너뛴다.
+
+create table users (
+    id           int          not null auto_increment,
+    login_id     varchar(50)  not null,
+    username     varchar(50)  not null,
+    password     varchar(255) not null,
+    role         varchar(10)  not null,
+    phone_number varchar(20),
+    primary key (id),
+    constraint uk_users_login_id unique (login_id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table guesthouse (
+    id           int          not null auto_increment,
+    host_id      int          not null,
+    name         varchar(100) not null,
+    description  text,
+    address      varchar(255) not null,
+    rating       double       not null,
+    phone_number varchar(20)  not null,
+    photo_id     int,
+    room_count   int          not null,
+    primary key (id),
+    constraint fk_guesthouse_host foreign key (host_id) references users (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table room (
+    id            int          not null auto_increment,
+    guesthouse_id int          not null,
+    name          varchar(100) not null,
+    capacity      int          not null,
+    price         int          not null,
+    photo_id      int,
+    primary key (id),
+    constraint fk_room_guesthouse foreign key (guesthouse_id) references guesthouse (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table reservation (
+    id             int  not null auto_increment,
+    guest_id       int  not null,
+    room_id        int  not null,
+    check_in_date  date not null,
+    check_out_date date not null,
+    people_count   int  not null,
+    primary key (id),
+    constraint fk_reservation_guest foreign key (guest_id) references users (id),
+    constraint fk_reservation_room foreign key (room_id) references room (id)
+) engine = InnoDB default charset = utf8mb4;
+
+create table review (
+    id             int       not null auto_increment,
+    reservation_id int       not null,
+    rating         int       not null,
+    comment        text,
+    created_at     timestamp default current_timestamp,
+    primary key (id),
+    constraint uk_review_reservation unique (reservation_id),
+    constraint fk_review_reservation foreign key (reservation_id) references reservation (id)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 사진 URL (Image 엔티티). 저장소가 없어 쓰이지 않았으며 V2 에서 내용 해시 매핑 테이블로 대체한다.
+create table image (
+    id  int           not null auto_increment,
+    url varchar(1000) not null,
+    primary key (id)
+) engine = InnoDB default charset = utf8mb4;
@@ -0,0 +1,35 @@
+-- 평점 집계 컬럼: rating = round(rating_sum / review_count, 1)
+alter table guesthouse
+    add column review_count int not null default 0,
+    add column rating_sum   int not null default 0;
+
+-- 기존 리뷰로 집계값 채우기
+update guesthouse g
+    join (
+        select rm.guesthouse_id, count(*) as review_count, sum(rv.rating) as rating_sum
+        from review rv
+        join reservation res on res.id = rv.reservation_id
+        join room rm on rm.id = res.room_id
+        group by rm.guesthouse_id
+    ) agg on agg.guesthouse_id = g.id
+set g.review_count = agg.review_count,
+    g.rating_sum   = agg.rating_sum,
+    g.rating       = round(agg.rating_sum / agg.review_count, 1);
+
+-- 사진 id hi-lo 블록 발급
+create table photo_id_sequence (
+    kind       enum ('GUESTHOUSE', 'ROOM') not null,
+    next_value int                         not null,
+    primary key (kind)
+) engine = InnoDB default charset = utf8mb4;
+
+-- 사진 id -> 내용 해시(blob) 매핑. 기존 image(id, url) 테이블은 어떤 코드도 쓰지 않았으므로 지우고 새로 만든다.
+drop table if exists image;
+create table image (
+    kind     enum ('GUESTHOUSE', 'ROOM') not null,
+    photo_id int                         not null,
+    hash     char(64)                    not null,
+    size     bigint                      not null,
+    primary key (kind, photo_id),
+    index idx_image_hash (hash)
+) engine = InnoDB default charset = utf8mb4;
@@ -0,0 +1,19 @@
+-- 예약 가능 확인(객실 + 기간): 박별 인원 계산에 필요한 컬럼까지 포함해 테이블 접근 없이 처리
+-- 호스트 예약 목록도 객실별 체크인 구간으로 읽는다.
+create index idx_reservation_room_check_in
+    on reservation (room_id, check_in_date, check_out_date, people_count);
+
+-- 내 예약 목록 (게스트 + 최근 체크인 순)
+create index idx_reservation_guest_check_in on reservation (guest_id, check_in_date);
+
+-- 검색: 게스트하우스별 객실 최저가/정원
+create index idx_room_guesthouse_price on room (guesthouse_id, price, capacity);
+
+-- 내 게스트하우스 목록: 응답 컬럼 포함
+create index idx_guesthouse_host on guesthouse (host_id, name, rating, room_count, photo_id);
+
+-- 이름 부분일치 검색: '%이름%' 은 B-tree 탐색이 불가하므로 테이블 대신 좁은 인덱스를 훑게 한다.
+create index idx_guesthouse_name on guesthouse (name);
+
+-- 게스트하우스 리뷰 최신순은 room(guesthouse_id) -> reservation(room_id) -> review(reservation_id, unique)
+-- 순서로 모두 인덱스 조회가 되고, 정렬은 해당 게스트하우스 리뷰에만 적용되므로 별도 인덱스를 두지 않는다.
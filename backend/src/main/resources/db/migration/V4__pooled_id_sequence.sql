@@ -0,0 +1,17 @@
+-- 게스트하우스/객실/예약 id 를 IDENTITY 대신 pooled 테이블 발급으로 변경 (IdGenerators 참고)
+-- Hibernate pooled 최적화기는 읽은 값을 블록의 끝으로 보고 (값 - 49) ~ 값 을 사용하므로
+-- 초기값은 현재 최대 id + 블록 크기(50)로 둔다.
+create table id_sequence (
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+) engine = InnoDB default charset = utf8mb4;
+
+insert into id_sequence (sequence_name, next_val)
+select 'guesthouse', coalesce(max(id), 0) + 50 from guesthouse;
+
+insert into id_sequence (sequence_name, next_val)
+select 'room', coalesce(max(id), 0) + 50 from room;
+
+insert into id_sequence (sequence_name, next_val)
+select 'reservation', coalesce(max(id), 0) + 50 from reservation;
@@ -0,0 +1,4 @@
+-- 호스트 예약 목록(기간 필터): 객실마다 check_out_date > from 구간부터 탐색.
+-- (room_id, check_in_date) 인덱스는 체크아웃 하한을 탐색에 쓸 수 없어 객실의 지난 예약 전체를 읽는다.
+create index idx_reservation_room_check_out
+    on reservation (room_id, check_out_date, check_in_date);
@@ -0,0 +1,41 @@
+package com.backend;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * MySQL 테스트 스키마를 운영 DB 와 같은 경로로 만든다 (application-prod.properties 의 baseline 설정).
+ * 스키마를 비운 뒤 ddl-auto 시절 테이블(V1 스크립트)을 Flyway 밖에서 만들고,
+ * baseline-on-migrate(버전 1)로 V2 부터 적용한다.
+ */
+public final class LegacySchemaMigration {
+	private static final String V1 = "db/migration/V1__baseline_schema.sql";
+
+	private LegacySchemaMigration() {
+	}
+
+	public static FlywayMigrationStrategy cleanBaselineMigrate() {
+		return flyway -> {
+			flyway.clean();
+			DataSource dataSource = flyway.getConfiguration().getDataSource();
+			try (Connection connection = dataSource.getConnection()) {
+				ScriptUtils.executeSqlScript(connection, new ClassPathResource(V1));
+			} catch (SQLException e) {
+				throw new IllegalStateException("기존 스키마 생성 실패", e);
+			}
+			Flyway.configure()
+					.configuration(flyway.getConfiguration())
+					.baselineOnMigrate(true)
+					.baselineVersion("1")
+					.load()
+					.migrate();
+		};
+	}
+}
@@ -0,0 +1,134 @@
+package com.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.backend.LegacySchemaMigration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * @SqlBudget 이 붙은 엔드포인트를 실제 MySQL 에 대고 호출해 요청당 SQL 문장 수가 예산 안인지 확인.
+ * app.sql-stats.fail-on-budget=true 라서 예산을 넘으면 SqlStatementFilter 가 예외를 던져 요청(테스트)이 실패한다.
+ * JSON 직렬화 중 지연 로딩(OSIV)까지 같은 요청으로 집계된다.
+ * 실행: SQL_BUDGET_DB_URL=jdbc:mysql://localhost:3306/budget_test [SQL_BUDGET_DB_USER, SQL_BUDGET_DB_PASSWORD] ./gradlew test
+ * 대상 스키마는 테스트 시작 시 비우고(clean) 운영과 같은 경로(기존 테이블 + baseline 1 이후 마이그레이션)로
+ * 다시 만드므로 반드시 테스트 전용 DB 를 지정한다.
+ */
+@EnabledIfEnvironmentVariable(named = "SQL_BUDGET_DB_URL", matches = ".+")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${SQL_BUDGET_DB_URL}",
+        "spring.datasource.username=${SQL_BUDGET_DB_USER:root}",
+        "spring.datasource.password=${SQL_BUDGET_DB_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.flyway.clean-disabled=false",
+        "app.sql-stats.fail-on-budget=true" })
+@AutoConfigureMockMvc
+@Import(SqlBudgetEndpointTest.CleanMigrateConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("엔드포인트별 SQL 문장 수 예산")
+class SqlBudgetEndpointTest {
+    private static final int GUEST_ID = 2;
+    private static final int GUESTHOUSE_ID = 1;
+    private static final int REVIEW_ID = 1;
+
+    @TestConfiguration
+    static class CleanMigrateConfig {
+        @Bean
+        FlywayMigrationStrategy cleanBaselineMigrate() {
+            return LegacySchemaMigration.cleanBaselineMigrate();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 호스트 1명, 게스트 1명, 게스트하우스 2개(객실 3개씩), 게스트의 지난 예약 4건과 리뷰 2건
+    @BeforeAll
+    void load() {
+        jdbcTemplate.update("insert into users (id, login_id, username, password, role) values "
+                + "(1, 'host', 'host', 'pw', 'HOST'), (2, 'guest', 'guest', 'pw', 'GUEST')");
+        for (int g = 1; g <= 2; g++) {
+            jdbcTemplate.update("insert into guesthouse (id, host_id, name, address, rating, phone_number, room_count) "
+                    + "values (?, 1, ?, 'addr', 0, '010', 3)", g, "게스트하우스 " + g);
+            for (int r = 1; r <= 3; r++) {
+                int roomId = (g - 1) * 3 + r;
+                jdbcTemplate.update("insert into room (id, guesthouse_id, name, capacity, price) values (?, ?, ?, 4, ?)",
+                        roomId, g, "room " + r, 30000 + r * 10000);
+            }
+        }
+        for (int id = 1; id <= 4; id++) {
+            jdbcTemplate.update("insert into reservation (id, guest_id, room_id, check_in_date, check_out_date, people_count) "
+                    + "values (?, ?, ?, date_add('2025-01-01', interval ? day), date_add('2025-01-03', interval ? day), 2)",
+                    id, GUEST_ID, id, id * 5, id * 5);
+        }
+        jdbcTemplate.update("insert into review (id, reservation_id, rating, comment) values (1, 1, 5, 'good'), (2, 2, 4, 'ok')");
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, String uri) throws Exception {
+        // 예산 초과 시 필터가 IllegalStateException 을 던져 perform 이 실패한다
+        mockMvc.perform(request.header("user-id", GUEST_ID)).andExpect(status().isOk());
+
+        // 필터가 실제로 이 요청을 집계했는지 (예산 검사가 건너뛰어지지 않았는지)
+        assertThat(meterRegistry.get("http.server.sql.statements").tag("uri", uri).summary().count())
+                .isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("검색 (@SqlBudget(1))")
+    void search() throws Exception {
+        assertWithinBudget(get("/guesthouse/search")
+                .param("check_in", "2025-03-01").param("check_out", "2025-03-03").param("people", "2"),
+                "/guesthouse/search");
+    }
+
+    @Test
+    @DisplayName("검색 페이지 (@SqlBudget(2))")
+    void searchPage() throws Exception {
+        assertWithinBudget(get("/guesthouse/search/page")
+                .param("check_in", "2025-03-01").param("check_out", "2025-03-03").param("people", "2"),
+                "/guesthouse/search/page");
+    }
+
+    @Test
+    @DisplayName("내 예약 목록 (@SqlBudget(1))")
+    void myReservations() throws Exception {
+        assertWithinBudget(get("/reservation/my"), "/reservation/my");
+    }
+
+    @Test
+    @DisplayName("리뷰 단건 (@SqlBudget(1))")
+    void review() throws Exception {
+        assertWithinBudget(get("/review/{reviewId}", REVIEW_ID), "/review/{reviewId}");
+    }
+
+    @Test
+    @DisplayName("게스트하우스 리뷰 목록 (@SqlBudget(2))")
+    void guesthouseReviews() throws Exception {
+        assertWithinBudget(get("/guesthouse/{guesthouseId}/reviews", GUESTHOUSE_ID), "/guesthouse/{guesthouse_Id}/reviews");
+    }
+}
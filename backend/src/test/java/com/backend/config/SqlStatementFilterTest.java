@@ -0,0 +1,78 @@
+package com.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+@DisplayName("SqlStatementFilter 테스트")
+class SqlStatementFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementStats.Inspector inspector = new SqlStatementStats.Inspector();
+
+    static class Handler {
+        @SqlBudget(1)
+        public void search() {
+        }
+    }
+
+    private MockHttpServletRequest request() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/guesthouse/search");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/guesthouse/search");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handler(), Handler.class.getMethod("search")));
+        return request;
+    }
+
+    // 요청 처리 중 SQL 을 count 번 실행하는 체인
+    private FilterChain executing(int count) {
+        return (req, res) -> {
+            for (int i = 0; i < count; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 문장 수를 uri 별로 기록")
+    void recordsStatementsPerRequest() throws Exception {
+        SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, 20, true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(1));
+
+        assertThat(meterRegistry.get("http.server.sql.statements").tag("uri", "/guesthouse/search")
+                .summary().totalAmount()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("http.server.sql.budget.exceeded").counter()).isNull();
+        // 요청 밖에서 실행된 SQL 은 집계하지 않음
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("@SqlBudget 초과 시 fail-on-budget 이면 예외")
+    void budgetExceeded_Fails() {
+        SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, 20, true);
+
+        assertThatThrownBy(() -> filter.doFilter(request(), new MockHttpServletResponse(), executing(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("/guesthouse/search");
+        assertThat(meterRegistry.get("http.server.sql.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("@SqlBudget 초과 시 fail-on-budget 이 아니면 메트릭만 기록")
+    void budgetExceeded_CountsOnly() throws Exception {
+        SqlStatementFilter filter = new SqlStatementFilter(meterRegistry, 20, false);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), executing(3));
+
+        assertThat(meterRegistry.get("http.server.sql.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+}
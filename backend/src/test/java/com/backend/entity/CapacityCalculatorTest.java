@@ -0,0 +1,52 @@
+package com.backend.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CapacityCalculator 테스트")
+class CapacityCalculatorTest {
+    private final LocalDate day = LocalDate.of(2025, 9, 1);
+
+    private Reservation stay(int fromOffset, int toOffset, int people) {
+        return Reservation.builder()
+                .checkInDate(day.plusDays(fromOffset))
+                .checkOutDate(day.plusDays(toOffset))
+                .peopleCount(people)
+                .build();
+    }
+
+    @Test
+    @DisplayName("서로 다른 박의 예약은 합산하지 않음")
+    void peakOccupancy_DisjointStays() {
+        // 1일 2명, 2~3일 2명, 4일 2명 → 어느 박이든 2명
+        List<Reservation> stays = List.of(stay(0, 1, 2), stay(1, 3, 2), stay(3, 4, 2));
+
+        assertThat(CapacityCalculator.peakOccupancy(stays, day, day.plusDays(4))).isEqualTo(2);
+        assertThat(CapacityCalculator.canAccommodate(4, stays, day, day.plusDays(4), 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 박에 겹치는 예약만 합산")
+    void peakOccupancy_OverlappingStays() {
+        // 2일 박에 3명 + 2명 + 1명
+        List<Reservation> stays = List.of(stay(0, 3, 3), stay(2, 4, 2), stay(2, 3, 1), stay(3, 5, 1));
+
+        assertThat(CapacityCalculator.peakOccupancy(stays, day, day.plusDays(5))).isEqualTo(6);
+        assertThat(CapacityCalculator.peakOccupancy(stays, day.plusDays(3), day.plusDays(5))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("체크아웃 날 체크인한 예약은 겹치지 않음, 기간 밖의 박은 무시")
+    void peakOccupancy_BoundariesAndClamp() {
+        List<Reservation> stays = List.of(stay(0, 2, 2), stay(2, 4, 2), stay(5, 7, 4));
+
+        assertThat(CapacityCalculator.peakOccupancy(stays, day, day.plusDays(5))).isEqualTo(2);
+        assertThat(CapacityCalculator.peakOccupancy(stays, day.plusDays(4), day.plusDays(5))).isZero();
+        assertThat(CapacityCalculator.peakOccupancy(List.of(), day, day.plusDays(1))).isZero();
+    }
+}
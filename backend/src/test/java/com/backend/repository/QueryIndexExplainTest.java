@@ -0,0 +1,339 @@
+package com.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.backend.LegacySchemaMigration;
+
+/**
+ * 주요 조회 쿼리가 V3__query_indexes.sql, V5 의 인덱스를 쓰는지 로컬 MySQL 에서 EXPLAIN 으로 확인.
+ * 저장소 메서드를 실제로 호출하고, Hibernate 가 보내는 SQL 을 같은 바인딩 값으로 EXPLAIN 한다 (ExplainingDataSource).
+ * 실행: EXPLAIN_DB_URL=jdbc:mysql://localhost:3306/explain_test [EXPLAIN_DB_USER, EXPLAIN_DB_PASSWORD] ./gradlew test
+ * 대상 스키마는 테스트 시작 시 비우고(clean) 운영과 같은 경로(기존 테이블 + baseline 1 이후 마이그레이션)로
+ * 다시 만드므로 반드시 테스트 전용 DB 를 지정한다.
+ */
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DB_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${EXPLAIN_DB_URL}",
+        "spring.datasource.username=${EXPLAIN_DB_USER:root}",
+        "spring.datasource.password=${EXPLAIN_DB_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.clean-disabled=false" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryIndexExplainTest.ExplainConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("쿼리 인덱스 사용 (EXPLAIN)")
+class QueryIndexExplainTest {
+    private static final int GUESTHOUSES = 200;
+    private static final int ROOMS_PER_GUESTHOUSE = 3;
+    private static final int RESERVATIONS_PER_ROOM = 20;
+
+    private static final LocalDate FROM = LocalDate.of(2025, 2, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 1);
+
+    // 캡처 중에 실행된 SELECT 의 실행 계획 (테스트는 한 스레드에서 순서대로 실행)
+    private static final List<Plan> captured = new ArrayList<>();
+    private static boolean capturing;
+
+    private record Plan(String table, String type, String possibleKeys, String key, String extra) {}
+
+    private record Binding(Method method, Object[] args) {}
+
+    @TestConfiguration
+    static class ExplainConfig {
+        @Bean
+        FlywayMigrationStrategy cleanBaselineMigrate() {
+            return LegacySchemaMigration.cleanBaselineMigrate();
+        }
+
+        @Bean
+        static BeanPostProcessor explainingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new ExplainingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /** 캡처 중 실행되는 PreparedStatement 마다 같은 커넥션에서 "explain " + SQL 을 같은 파라미터로 실행한다. */
+    static final class ExplainingDataSource extends DelegatingDataSource {
+        ExplainingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return explaining(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return explaining(super.getConnection(username, password));
+        }
+
+        private static Connection explaining(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (capturing && "prepareStatement".equals(method.getName())
+                                && result instanceof PreparedStatement statement) {
+                            return explaining(connection, (String) args[0], statement);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement explaining(Connection connection, String sql, PreparedStatement statement) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                        // setInt(1, ..), setObject(2, ..), setNull(3, ..) 등 파라미터 바인딩
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args));
+                        } else if ("executeQuery".equals(method.getName()) && args == null) {
+                            captured.addAll(explain(connection, sql, bindings));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static List<Plan> explain(Connection connection, String sql, List<Binding> bindings)
+                throws SQLException, ReflectiveOperationException {
+            List<Plan> plans = new ArrayList<>();
+            try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                for (Binding binding : bindings) {
+                    binding.method().invoke(explain, binding.args());
+                }
+                try (ResultSet rs = explain.executeQuery()) {
+                    while (rs.next()) {
+                        plans.add(new Plan(rs.getString("table"), rs.getString("type"),
+                                rs.getString("possible_keys"), rs.getString("key"), rs.getString("Extra")));
+                    }
+                }
+            }
+            return plans;
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private GuesthouseRepository guesthouseRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @BeforeAll
+    void loadData() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            load(connection);
+        }
+    }
+
+    // 옵티마이저가 인덱스를 고를 만큼의 데이터: 호스트 20명, 게스트하우스 200개, 객실 600개, 예약 12,000건
+    private void load(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement users = connection.prepareStatement(
+                "insert into users (login_id, username, password, role) values (?, ?, 'pw', ?)")) {
+            for (int i = 1; i <= 120; i++) {
+                users.setString(1, "user" + i);
+                users.setString(2, "user" + i);
+                users.setString(3, i <= 20 ? "HOST" : "GUEST");
+                users.addBatch();
+            }
+            users.executeBatch();
+        }
+        try (PreparedStatement guesthouses = connection.prepareStatement(
+                "insert into guesthouse (host_id, name, address, rating, phone_number, room_count) "
+                        + "values (?, ?, 'addr', 0, '010', ?)")) {
+            for (int g = 1; g <= GUESTHOUSES; g++) {
+                guesthouses.setInt(1, (g % 20) + 1);
+                guesthouses.setString(2, "게스트하우스 " + g);
+                guesthouses.setInt(3, ROOMS_PER_GUESTHOUSE);
+                guesthouses.addBatch();
+            }
+            guesthouses.executeBatch();
+        }
+        try (PreparedStatement rooms = connection.prepareStatement(
+                "insert into room (guesthouse_id, name, capacity, price) values (?, 'room', 4, ?)")) {
+            for (int g = 1; g <= GUESTHOUSES; g++) {
+                for (int r = 0; r < ROOMS_PER_GUESTHOUSE; r++) {
+                    rooms.setInt(1, g);
+                    rooms.setInt(2, 30000 + r * 10000);
+                    rooms.addBatch();
+                }
+            }
+            rooms.executeBatch();
+        }
+        try (PreparedStatement reservations = connection.prepareStatement(
+                "insert into reservation (guest_id, room_id, check_in_date, check_out_date, people_count) "
+                        + "values (?, ?, date_add('2025-01-01', interval ? day), date_add('2025-01-01', interval ? day), 1)");
+                PreparedStatement reviews = connection.prepareStatement(
+                        "insert into review (reservation_id, rating) values (?, 4)")) {
+            int id = 0;
+            for (int room = 1; room <= GUESTHOUSES * ROOMS_PER_GUESTHOUSE; room++) {
+                for (int n = 0; n < RESERVATIONS_PER_ROOM; n++) {
+                    id++;
+                    reservations.setInt(1, 21 + id % 100);
+                    reservations.setInt(2, room);
+                    reservations.setInt(3, n * 3);
+                    reservations.setInt(4, n * 3 + 2);
+                    reservations.addBatch();
+                    if (n % 4 == 0) {
+                        reviews.setInt(1, id);
+                        reviews.addBatch();
+                    }
+                }
+            }
+            reservations.executeBatch();
+            reviews.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze table users, guesthouse, room, reservation, review");
+        }
+    }
+
+    // 저장소 메서드를 실행하며 Hibernate 가 보낸 SELECT 들의 실행 계획을 모은다
+    private List<Plan> explain(Runnable query) {
+        captured.clear();
+        capturing = true;
+        try {
+            query.run();
+        } finally {
+            capturing = false;
+        }
+        assertThat(captured).as("실행된 SELECT 가 없음").isNotEmpty();
+        return List.copyOf(captured);
+    }
+
+    // 테이블 별칭은 Hibernate 가 정하므로(r1_0 등) 해당 인덱스를 후보로 가진 행으로 테이블을 찾는다
+    private List<Plan> plansOn(List<Plan> plans, String index) {
+        List<Plan> on = plans.stream()
+                .filter(p -> index.equals(p.key()) || (p.possibleKeys() != null && p.possibleKeys().contains(index)))
+                .toList();
+        assertThat(on).as(index + " 를 쓸 수 있는 테이블이 실행 계획에 없음: " + plans).isNotEmpty();
+        return on;
+    }
+
+    // 예약 가능 조건의 상관 서브쿼리: 예약 테이블은 매번 객실로 시작하는 인덱스로 읽어야 한다
+    private void assertReservationsReadByRoom(List<Plan> plans) {
+        assertThat(plansOn(plans, "idx_reservation_room_check_in")).allSatisfy(p -> {
+            assertThat(p.key()).startsWith("idx_reservation_room_");
+            assertThat(p.type()).isIn("ref", "range");
+        });
+    }
+
+    @Test
+    @DisplayName("예약 가능 확인: 객실 + 기간 조건이 인덱스만으로 처리")
+    void overlappingStays_UsesCoveringRoomCheckInIndex() {
+        List<Plan> plans = explain(() -> reservationRepository.findOverlappingStays(17, FROM, FROM.plusDays(9)));
+
+        Plan plan = plansOn(plans, "idx_reservation_room_check_in").get(0);
+        assertThat(plan.key()).isEqualTo("idx_reservation_room_check_in");
+        assertThat(plan.type()).isEqualTo("range");
+        assertThat(plan.extra()).contains("Using index");
+    }
+
+    @Test
+    @DisplayName("호스트 예약 목록: 객실마다 체크아웃 하한부터 range 탐색")
+    void hostReservations_SeeksRoomCheckOutIndex() {
+        // 게스트하우스 7 의 객실 19, 20, 21 (GuesthouseService 가 객실 id 목록으로 조회)
+        List<Plan> plans = explain(() -> reservationRepository.findHostReservations(List.of(19, 20, 21), FROM, TO,
+                null, null, PageRequest.of(0, 21)));
+
+        Plan reservation = plansOn(plans, "idx_reservation_room_check_out").get(0);
+        assertThat(reservation.key()).isEqualTo("idx_reservation_room_check_out");
+        assertThat(reservation.type()).isEqualTo("range");
+        assertThat(plans).noneMatch(p -> "ALL".equals(p.type()));
+    }
+
+    @Test
+    @DisplayName("내 예약 목록: 게스트 + 체크인 순")
+    void myReservations_UsesGuestCheckInIndex() {
+        List<Plan> plans = explain(() -> reservationRepository.findMyReservations(42, PageRequest.of(0, 20)));
+
+        assertThat(plansOn(plans, "idx_reservation_guest_check_in").get(0).key())
+                .isEqualTo("idx_reservation_guest_check_in");
+        assertThat(plans).noneMatch(p -> "ALL".equals(p.type()));
+    }
+
+    @Test
+    @DisplayName("게스트하우스 리뷰 최신순: 조인 단계마다 인덱스 조회")
+    void guesthouseReviews_NoFullScan() {
+        List<Plan> plans = explain(() -> reviewRepository.findByGuesthouseId(7));
+
+        assertThat(plansOn(plans, "idx_room_guesthouse_price").get(0).key()).isEqualTo("idx_room_guesthouse_price");
+        assertThat(plans).noneMatch(p -> "ALL".equals(p.type()));
+    }
+
+    @Test
+    @DisplayName("내 게스트하우스 목록: 호스트 인덱스만으로 응답")
+    void myGuesthouses_UsesCoveringHostIndex() {
+        List<Plan> plans = explain(() -> guesthouseRepository.findMyGuesthouses(3));
+
+        Plan plan = plansOn(plans, "idx_guesthouse_host").get(0);
+        assertThat(plan.key()).isEqualTo("idx_guesthouse_host");
+        assertThat(plan.type()).isEqualTo("ref");
+        assertThat(plan.extra()).contains("Using index");
+    }
+
+    @Test
+    @DisplayName("검색(예약 가능 객실): 박별 인원 서브쿼리가 객실 인덱스로 예약을 읽음")
+    void availableRooms_ReadsReservationsByRoom() {
+        assertReservationsReadByRoom(explain(() -> guesthouseRepository.findAvailableRooms(FROM, FROM.plusDays(3),
+                null, 2)));
+    }
+
+    @Test
+    @DisplayName("검색 키셋 페이지: 박별 인원 서브쿼리가 객실 인덱스로 예약을 읽음")
+    void searchPage_ReadsReservationsByRoom() {
+        assertReservationsReadByRoom(explain(() -> guesthouseRepository.searchPageOrderById(FROM, FROM.plusDays(3),
+                null, 2, null, PageRequest.of(0, 20))));
+    }
+}
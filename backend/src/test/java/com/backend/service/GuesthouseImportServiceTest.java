@@ -0,0 +1,170 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.backend.entity.Guesthouse;
+import com.backend.entity.User;
+import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuesthouseImportService 테스트")
+class GuesthouseImportServiceTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private GuesthouseRepository guesthouseRepository;
+
+    @Mock
+    private GuesthouseSearchCache searchCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final JsonMapper objectMapper = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final AtomicInteger ids = new AtomicInteger(100);
+
+    private GuesthouseImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new GuesthouseImportService(userRepository, guesthouseRepository, searchCache, objectMapper,
+                validatorFactory.getValidator(), entityManager, TransactionOperations.withoutTransaction(), 2);
+        lenient().when(userRepository.existsById(1)).thenReturn(true);
+        lenient().when(userRepository.getReferenceById(1)).thenReturn(User.builder().id(1).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    // saveAll 시 id 부여
+    @SuppressWarnings("unchecked")
+    private void assignIdsOnSave() {
+        when(guesthouseRepository.saveAll(anyList())).thenAnswer(inv -> {
+            for (Guesthouse g : (List<Guesthouse>) inv.getArgument(0)) {
+                ReflectionTestUtils.setField(g, "id", ids.incrementAndGet());
+            }
+            return inv.getArgument(0);
+        });
+    }
+
+    private static String record(String name, int roomCount) {
+        StringBuilder rooms = new StringBuilder();
+        for (int i = 0; i < 2; i++) {
+            if (i > 0) rooms.append(',');
+            rooms.append("{\"name\":\"r").append(i).append("\",\"capacity\":2,\"price\":50000,\"photo_id\":1}");
+        }
+        return "{\"name\":\"" + name + "\",\"description\":\"d\",\"address\":\"a\",\"rating\":0.0,\"photo_id\":1,"
+                + "\"phone_number\":\"064\",\"room_count\":" + roomCount + ",\"rooms\":[" + rooms + "]}";
+    }
+
+    private List<JsonNode> run(String... lines) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        importService.importNdjson(1,
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), out);
+        return objectMapper.readerFor(JsonNode.class)
+                .<JsonNode>readValues(out.toString(StandardCharsets.UTF_8)).readAll();
+    }
+
+    @Test
+    @DisplayName("유효한 줄은 배치 크기 단위로 저장하고, 잘못된 줄은 줄 번호와 사유를 보고")
+    void importNdjson_ChunksAndPerLineResults() throws IOException {
+        assignIdsOnSave();
+
+        List<JsonNode> results = run(
+                record("A", 2),
+                "{not json",
+                record("B", 2),
+                "",
+                record("", 2),      // 이름 누락
+                record("C", 3),     // room_count 불일치
+                record("D", 2));
+
+        assertThat(results).hasSize(6);
+        assertThat(results).filteredOn(r -> r.get("success").asBoolean())
+                .extracting(r -> r.get("line").asInt()).containsExactlyInAnyOrder(1, 3, 7);
+        assertThat(results).filteredOn(r -> !r.get("success").asBoolean())
+                .extracting(r -> r.get("line").asInt()).containsExactlyInAnyOrder(2, 5, 6);
+        assertThat(results).filteredOn(r -> r.get("line").asInt() == 6)
+                .extracting(r -> r.get("error").asText()).containsExactly("room_count mismatch with rooms array size");
+        assertThat(results).filteredOn(r -> r.get("line").asInt() == 1)
+                .extracting(r -> r.get("id").asInt()).containsExactly(101);
+
+        // 청크 2건 + 마지막 1건 → 저장 2번, 청크마다 flush/clear
+        verify(guesthouseRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(searchCache, times(2)).catalogChanged();
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 한 건씩 다시 저장해 실패한 줄만 보고")
+    @SuppressWarnings("unchecked")
+    void importNdjson_ChunkFailureRetriesIndividually() throws IOException {
+        when(guesthouseRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Guesthouse> batch = (List<Guesthouse>) inv.getArgument(0);
+            if (batch.size() > 1 || "B".equals(batch.get(0).getName())) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            ReflectionTestUtils.setField(batch.get(0), "id", ids.incrementAndGet());
+            return batch;
+        });
+
+        List<JsonNode> results = run(record("A", 2), record("B", 2));
+
+        assertThat(results).extracting(r -> r.get("line").asInt() + ":" + r.get("success").asBoolean())
+                .containsExactly("1:true", "2:false");
+        // 예외 메시지 대신 고정 문구
+        assertThat(results.get(1).get("error").asText()).isEqualTo(GuesthouseImportService.CONSTRAINT_VIOLATION);
+    }
+
+    @Test
+    @DisplayName("호스트가 없으면 입력을 읽지 않고 거절")
+    void importNdjson_HostNotFound() {
+        when(userRepository.existsById(2)).thenReturn(false);
+
+        assertThatThrownBy(() -> importService.importNdjson(2,
+                new ByteArrayInputStream(record("A", 2).getBytes(StandardCharsets.UTF_8)), new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(guesthouseRepository, never()).saveAll(anyList());
+    }
+}
@@ -1,13 +1,12 @@
 package com.backend.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.spy;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,77 +18,61 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.backend.dto.request.GuesthouseSearchSort;
 import com.backend.dto.response.GuesthouseResponseDto;
-import com.backend.entity.Guesthouse;
-import com.backend.entity.Room;
+import com.backend.dto.response.GuesthouseSearchPageDto;
 import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.GuesthouseRepository.AvailableRoomRow;
+import com.backend.repository.GuesthouseRepository.GuesthouseSearchRow;
 
 @ExtendWith(MockitoExtension.class)
 public class GuesthouseListServiceTest {
     private GuesthouseRepository guesthouseRepository;
     private GuesthouseListService guesthouseListService;
 
-    private Guesthouse guesthouse1;
-    private Guesthouse guesthouse2;
+    private final LocalDate checkIn = LocalDate.of(2025, 9, 1);
+    private final LocalDate checkOut = LocalDate.of(2025, 9, 3);
+
+    // 쿼리 결과 한 행(예약 가능한 객실 1개)을 흉내내는 projection 구현
+    private record Row(Integer guesthouseId, String name, String address, Double rating, Integer photoId,
+            Integer roomCount, Integer roomId, Integer price) implements AvailableRoomRow {
+        public Integer getGuesthouseId() { return guesthouseId; }
+        public String getName() { return name; }
+        public String getAddress() { return address; }
+        public Double getRating() { return rating; }
+        public Integer getPhotoId() { return photoId; }
+        public Integer getRoomCount() { return roomCount; }
+        public Integer getRoomId() { return roomId; }
+        public Integer getPrice() { return price; }
+    }
+
+    private record PageRow(Integer id, String name, String address, Double rating, Integer photoId,
+            Integer roomCount, Integer minPrice) implements GuesthouseSearchRow {
+        public Integer getId() { return id; }
+        public String getName() { return name; }
+        public String getAddress() { return address; }
+        public Double getRating() { return rating; }
+        public Integer getPhotoId() { return photoId; }
+        public Integer getRoomCount() { return roomCount; }
+        public Integer getMinPrice() { return minPrice; }
+    }
 
     @BeforeEach
     void setUp() {
         guesthouseRepository = Mockito.mock(GuesthouseRepository.class);
-        guesthouseListService = new GuesthouseListService(guesthouseRepository);
-
-        // Room 생성
-        Room room1 = Room.builder()
-                .id(1)
-                .name("Room A")
-                .capacity(2)
-                .price(100)
-                .build();
-
-        Room room2 = Room.builder()
-                .id(2)
-                .name("Room B")
-                .capacity(4)
-                .price(150)
-                .build();
-
-        // 가용성 메서드 모킹
-        room1 = spy(room1);
-        room2 = spy(room2);
-        doReturn(true).when(room1).isAvailable(any(), any(), anyInt());
-        doReturn(false).when(room2).isAvailable(any(), any(), anyInt());
-
-        // Guesthouse 생성
-        guesthouse1 = Guesthouse.builder()
-                .id(1)
-                .name("Sea View Guesthouse")
-                .address("Beach Street")
-                .rating(4.5)
-                .photoId(101)
-                .roomCount(2)
-                .build();
-        guesthouse1.addRoom(room1);
-        guesthouse1.addRoom(room2);
-
-        guesthouse2 = Guesthouse.builder()
-                .id(2)
-                .name("Mountain Inn")
-                .address("Hill Road")
-                .rating(4.0)
-                .photoId(102)
-                .roomCount(1)
-                .build();
-        guesthouse2.addRoom(room2);
+        guesthouseListService = new GuesthouseListService(guesthouseRepository,
+                new GuesthouseSearchCache(100, Duration.ofMinutes(1)));
     }
 
     @Test
-    @DisplayName("모든 게스트하우스 조회 후 방 가용성 필터링")
+    @DisplayName("예약 가능한 방만 포함된 게스트하우스 조회")
     void searchGuesthouses_FilterAvailableRooms_Success() {
-        // Given
-        when(guesthouseRepository.findAll()).thenReturn(Arrays.asList(guesthouse1, guesthouse2));
-
-        LocalDate checkIn = LocalDate.of(2025, 9, 1);
-        LocalDate checkOut = LocalDate.of(2025, 9, 3);
+        // Given (room1만 가용, room2는 쿼리 결과에서 제외됨)
+        when(guesthouseRepository.findAvailableRooms(checkIn, checkOut, "sea", 2)).thenReturn(List.of(
+                new Row(1, "Sea View Guesthouse", "Beach Street", 4.5, 101, 2, 1, 100)));
 
         // When
         List<GuesthouseResponseDto> result = guesthouseListService.searchGuesthouses(
@@ -102,7 +85,116 @@ public class GuesthouseListServiceTest {
         assertThat(dto.getName()).containsIgnoringCase("sea");
         assertThat(dto.getRoomAvailable()).containsExactly(1); // room1만 가용
         assertThat(dto.getPhotoId()).isEqualTo(101);
+        assertThat(dto.getMinPrice()).isEqualTo(100);
+
+        verify(guesthouseRepository).findAvailableRooms(checkIn, checkOut, "sea", 2);
+    }
+
+    @Test
+    @DisplayName("같은 게스트하우스의 여러 방을 묶어 최저가 계산")
+    void searchGuesthouses_GroupRowsByGuesthouse() {
+        // Given
+        when(guesthouseRepository.findAvailableRooms(checkIn, checkOut, null, 1)).thenReturn(Arrays.asList(
+                new Row(1, "Sea View Guesthouse", "Beach Street", 4.5, 101, 2, 1, 100),
+                new Row(1, "Sea View Guesthouse", "Beach Street", 4.5, 101, 2, 2, 80),
+                new Row(2, "Mountain Inn", "Hill Road", 4.0, 102, 1, 3, 150)));
+
+        // When
+        List<GuesthouseResponseDto> result = guesthouseListService.searchGuesthouses(
+                1, checkIn, checkOut, null, 1);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getRoomAvailable()).containsExactly(1, 2);
+        assertThat(result.get(0).getMinPrice()).isEqualTo(80);
+        assertThat(result.get(1).getId()).isEqualTo(2);
+        assertThat(result.get(1).getRoomAvailable()).containsExactly(3);
+        assertThat(result.get(1).getMinPrice()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("예약 가능한 방이 없으면 빈 목록")
+    void searchGuesthouses_NoAvailableRooms() {
+        // Given
+        when(guesthouseRepository.findAvailableRooms(checkIn, checkOut, null, 4))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        List<GuesthouseResponseDto> result = guesthouseListService.searchGuesthouses(
+                1, checkIn, checkOut, null, 4);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
 
-        verify(guesthouseRepository).findAll();
+    @Test
+    @DisplayName("같은 조건의 반복 검색은 캐시에서 응답 (이름 대소문자 무시)")
+    void searchGuesthouses_RepeatedSearchServedFromCache() {
+        // Given
+        when(guesthouseRepository.findAvailableRooms(checkIn, checkOut, "Sea", 2)).thenReturn(List.of(
+                new Row(1, "Sea View Guesthouse", "Beach Street", 4.5, 101, 2, 1, 100)));
+
+        // When
+        List<GuesthouseResponseDto> first = guesthouseListService.searchGuesthouses(1, checkIn, checkOut, "Sea", 2);
+        List<GuesthouseResponseDto> second = guesthouseListService.searchGuesthouses(2, checkIn, checkOut, "sea", 2);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(guesthouseRepository, times(1)).findAvailableRooms(checkIn, checkOut, "Sea", 2);
+    }
+
+    @Test
+    @DisplayName("최저가 정렬 페이지 조회 - 다음 페이지 커서 발급 후 이어서 조회")
+    void searchGuesthousePage_MinPriceKeyset() {
+        // Given: 첫 페이지(size 2)는 3건 조회되어 다음 페이지 존재
+        when(guesthouseRepository.searchPageOrderByMinPrice(checkIn, checkOut, null, 1, null, null,
+                PageRequest.of(0, 3))).thenReturn(List.of(
+                        new PageRow(3, "C", "addr", 4.0, 103, 1, 50),
+                        new PageRow(1, "A", "addr", 4.5, 101, 2, 80),
+                        new PageRow(2, "B", "addr", 3.0, 102, 1, 80)));
+        when(guesthouseRepository.findAvailableRoomsIn(checkIn, checkOut, 1, List.of(3, 1))).thenReturn(List.of(
+                new Row(1, "A", "addr", 4.5, 101, 2, 11, 80),
+                new Row(3, "C", "addr", 4.0, 103, 1, 31, 50)));
+
+        // When
+        GuesthouseSearchPageDto first = guesthouseListService.searchGuesthousePage(
+                checkIn, checkOut, null, 1, GuesthouseSearchSort.MIN_PRICE, 2, null);
+
+        // Then
+        assertThat(first.getItems()).extracting(GuesthouseResponseDto::getId).containsExactly(3, 1);
+        assertThat(first.getItems().get(0).getRoomAvailable()).containsExactly(31);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // Given: 커서(최저가 80, id 1) 이후 페이지
+        when(guesthouseRepository.searchPageOrderByMinPrice(checkIn, checkOut, null, 1, 80, 1,
+                PageRequest.of(0, 3))).thenReturn(List.of(new PageRow(2, "B", "addr", 3.0, 102, 1, 80)));
+        when(guesthouseRepository.findAvailableRoomsIn(checkIn, checkOut, 1, List.of(2))).thenReturn(List.of(
+                new Row(2, "B", "addr", 3.0, 102, 1, 21, 80)));
+
+        // When
+        GuesthouseSearchPageDto second = guesthouseListService.searchGuesthousePage(
+                checkIn, checkOut, null, 1, GuesthouseSearchSort.MIN_PRICE, 2, first.getNextCursor());
+
+        // Then
+        assertThat(second.getItems()).extracting(GuesthouseResponseDto::getId).containsExactly(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서는 거절")
+    void searchGuesthousePage_CursorSortMismatch() {
+        String idCursor = new SearchCursor(GuesthouseSearchSort.ID, null, 5).encode();
+
+        assertThatThrownBy(() -> guesthouseListService.searchGuesthousePage(
+                checkIn, checkOut, null, 1, GuesthouseSearchSort.RATING, 10, idCursor))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거절")
+    void searchGuesthousePage_InvalidCursor() {
+        assertThatThrownBy(() -> guesthouseListService.searchGuesthousePage(
+                checkIn, checkOut, null, 1, GuesthouseSearchSort.ID, 10, "not-a-cursor!"))
+                .isInstanceOf(ResponseStatusException.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.backend.dto.response.GuesthouseResponseDto;
+
+@DisplayName("GuesthouseSearchCache 테스트")
+class GuesthouseSearchCacheTest {
+    private final LocalDate sep1 = LocalDate.of(2025, 9, 1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private GuesthouseSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GuesthouseSearchCache(100, Duration.ofMinutes(1));
+    }
+
+    private List<GuesthouseResponseDto> search(LocalDate checkIn, LocalDate checkOut) {
+        return cache.get(checkIn, checkOut, null, 2, () -> {
+            loads.incrementAndGet();
+            return List.of(GuesthouseResponseDto.builder().id(1).build());
+        });
+    }
+
+    @Test
+    @DisplayName("예약 변경은 기간이 겹치는 검색 결과만 무효화")
+    void reservationChanged_InvalidatesOverlappingOnly() {
+        // given: 9/1~9/3, 9/5~9/7 검색 결과 캐시
+        search(sep1, sep1.plusDays(2));
+        search(sep1.plusDays(4), sep1.plusDays(6));
+
+        // when: 9/2~9/4 예약 (트랜잭션 밖이므로 즉시 무효화)
+        cache.reservationChanged(sep1.plusDays(1), sep1.plusDays(3));
+        search(sep1, sep1.plusDays(2));
+        search(sep1.plusDays(4), sep1.plusDays(6));
+
+        // then: 겹치는 9/1~9/3 만 다시 조회
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게스트하우스 변경은 전체 무효화")
+    void catalogChanged_InvalidatesAll() {
+        search(sep1, sep1.plusDays(2));
+        search(sep1.plusDays(4), sep1.plusDays(6));
+
+        cache.catalogChanged();
+        search(sep1, sep1.plusDays(2));
+        search(sep1.plusDays(4), sep1.plusDays(6));
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("평점 변경은 그 게스트하우스가 포함된 검색 결과만 무효화")
+    void guesthouseChanged_InvalidatesResultsContainingIt() {
+        // given: 게스트하우스 1 이 있는 결과와 2 만 있는 결과
+        search(sep1, sep1.plusDays(2));
+        cache.get(sep1.plusDays(4), sep1.plusDays(6), null, 2, () -> {
+            loads.incrementAndGet();
+            return List.of(GuesthouseResponseDto.builder().id(2).build());
+        });
+
+        // when
+        cache.guesthouseChanged(1);
+        search(sep1, sep1.plusDays(2));
+        cache.get(sep1.plusDays(4), sep1.plusDays(6), null, 2, List::of);
+
+        // then: 게스트하우스 1 이 있던 결과만 다시 조회 (2 만 있는 결과는 캐시 적중)
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회 결과를 캐시에 남기지 않음")
+    void get_InvalidatedWhileLoading_NotCached() {
+        cache.get(sep1, sep1.plusDays(2), null, 2, () -> {
+            loads.incrementAndGet();
+            cache.reservationChanged(sep1, sep1.plusDays(1));
+            return List.of();
+        });
+        search(sep1, sep1.plusDays(2));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
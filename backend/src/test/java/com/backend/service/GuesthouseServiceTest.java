@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -19,16 +20,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.backend.dto.request.GuestHouseCreateRequest;
 import com.backend.dto.response.ReservationListItemDto;
+import com.backend.dto.response.ReservationPageDto;
 import com.backend.entity.Guesthouse;
-import com.backend.entity.Reservation;
 import com.backend.entity.Room;
 import com.backend.entity.User;
 import com.backend.repository.GuesthouseRepository;
 import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.HostReservationRow;
 import com.backend.repository.RoomRepository;
 import com.backend.repository.UserRepository;
 
@@ -47,9 +51,24 @@ class GuesthouseServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private GuesthouseSearchCache searchCache;
+
     @InjectMocks
     private GuesthouseService guesthouseService;
 
+    private record HostRow(Integer id, Integer roomId, String roomName, Integer guestId, String guestUsername,
+            LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount) implements HostReservationRow {
+        public Integer getId() { return id; }
+        public Integer getRoomId() { return roomId; }
+        public String getRoomName() { return roomName; }
+        public Integer getGuestId() { return guestId; }
+        public String getGuestUsername() { return guestUsername; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+    }
+
     private User testHost;
     private GuestHouseCreateRequest createRequest;
     private Guesthouse testGuesthouse;
@@ -241,23 +260,10 @@ class GuesthouseServiceTest {
     @DisplayName("게스트하우스의 예약 목록 조회 성공")
     void getReservationsByGuesthouse_Success() {
         // Given
-        User guest = User.builder()
-                .id(2)
-                .username("testguest")
-                .build();
-
-        Reservation reservation = Reservation.builder()
-                .id(1)
-                .room(testRoom)
-                .guest(guest)
-                .checkInDate(LocalDate.of(2024, 12, 1))
-                .checkOutDate(LocalDate.of(2024, 12, 3))
-                .peopleCount(2)
-                .build();
-
         when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
-        when(reservationRepository.findAllByRoom_Guesthouse_IdOrderByCheckInDateAsc(1))
-                .thenReturn(Arrays.asList(reservation));
+        when(reservationRepository.findHostReservations(List.of(1), null, null, null, null, Pageable.unpaged()))
+                .thenReturn(List.of(new HostRow(1, 1, "Test Room", 2, "testguest",
+                        LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 3), 2)));
 
         // When
         List<ReservationListItemDto> result = guesthouseService.getReservationsByGuesthouse(1, 1);
@@ -304,8 +310,8 @@ class GuesthouseServiceTest {
     void getReservationsByGuesthouse_EmptyReservations() {
         // Given
         when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
-        when(reservationRepository.findAllByRoom_Guesthouse_IdOrderByCheckInDateAsc(1))
-                .thenReturn(Arrays.asList());
+        when(reservationRepository.findHostReservations(List.of(1), null, null, null, null, Pageable.unpaged()))
+                .thenReturn(List.of());
 
         // When
         List<ReservationListItemDto> result = guesthouseService.getReservationsByGuesthouse(1, 1);
@@ -313,4 +319,72 @@ class GuesthouseServiceTest {
         // Then
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("객실이 없는 게스트하우스는 예약을 조회하지 않음")
+    void getReservationPage_NoRooms() {
+        // Given
+        testGuesthouse.getRoomList().clear();
+        when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
+
+        // When
+        ReservationPageDto page = guesthouseService.getReservationPage(1, 1, null, null, 2, null);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("기간 필터와 키셋 페이지 - 다음 페이지 커서 발급 후 이어서 조회")
+    void getReservationPage_Keyset() {
+        // Given: size 2 요청에 3건 조회되어 다음 페이지 존재
+        LocalDate from = LocalDate.of(2024, 12, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
+        when(reservationRepository.findHostReservations(List.of(1), from, to, null, null, PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        new HostRow(5, 1, "Test Room", 2, "a", LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 3), 1),
+                        new HostRow(3, 1, "Test Room", 2, "b", LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 5), 1),
+                        new HostRow(4, 1, "Test Room", 2, "c", LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 6), 1)));
+
+        // When
+        ReservationPageDto first = guesthouseService.getReservationPage(1, 1, from, to, 2, null);
+
+        // Then
+        assertThat(first.getItems()).extracting(ReservationListItemDto::getId).containsExactly(5, 3);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // Given: 커서(12/4, id 3) 이후 페이지
+        when(reservationRepository.findHostReservations(List.of(1), from, to, LocalDate.of(2024, 12, 4), 3,
+                PageRequest.of(0, 3))).thenReturn(List.of(
+                        new HostRow(4, 1, "Test Room", 2, "c", LocalDate.of(2024, 12, 4), LocalDate.of(2024, 12, 6), 1)));
+
+        // When
+        ReservationPageDto second = guesthouseService.getReservationPage(1, 1, from, to, 2, first.getNextCursor());
+
+        // Then
+        assertThat(second.getItems()).extracting(ReservationListItemDto::getId).containsExactly(4);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("from 이 to 보다 늦으면 거절")
+    void getReservationsByGuesthouse_InvalidRange() {
+        when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
+
+        assertThatThrownBy(() -> guesthouseService.getReservationsByGuesthouse(1, 1,
+                LocalDate.of(2024, 12, 10), LocalDate.of(2024, 12, 1)))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거절")
+    void getReservationPage_InvalidCursor() {
+        when(guesthouseRepository.findById(1)).thenReturn(Optional.of(testGuesthouse));
+
+        assertThatThrownBy(() -> guesthouseService.getReservationPage(1, 1, null, null, 20, "not-a-cursor!"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.backend.entity.Image;
+import com.backend.entity.PhotoKind;
+import com.backend.repository.ImageRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageFileService 테스트")
+class ImageFileServiceTest {
+    @Mock
+    private PhotoIdAllocator photoIdAllocator;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    @TempDir
+    Path uploadRoot;
+
+    private ExecutorService executor;
+    private ImageBlobStore blobStore;
+    private ImageFileService imageFileService;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        blobStore = new ImageBlobStore(uploadRoot.toString());
+        imageFileService = new ImageFileService(photoIdAllocator, executor, imageVariantService, blobStore,
+                imageRepository, meterRegistry);
+        ReflectionTestUtils.setField(imageFileService, "uploadRoot", uploadRoot.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private MockMultipartFile image(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "image/png", content);
+    }
+
+    private long countBlobs() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadRoot.resolve("blobs"))) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".png")).count();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("같은 내용은 blob 하나로 저장하고 photoId 별 매핑만 추가")
+    void saveAll_DeduplicatesIdenticalContent() throws IOException {
+        // given: 대표 사진과 객실 사진 1장이 같은 내용
+        when(photoIdAllocator.next(PhotoKind.GUESTHOUSE)).thenReturn(7);
+        when(photoIdAllocator.next(PhotoKind.ROOM)).thenReturn(11, 12);
+        byte[] same = { 1, 2, 3 };
+        List<MultipartFile> files = List.of(
+                image("cover.png", same),
+                image("room0.png", same),
+                image("room1.png", new byte[] { 9 }));
+
+        // when
+        List<Map<String, Object>> result = imageFileService.saveAll(files, List.of("cover", "room-0", "room-1"));
+
+        // then
+        assertThat(result).extracting(m -> m.get("id")).containsExactly(7, 11, 12);
+        assertThat(countBlobs()).isEqualTo(2);
+        // 중복 내용의 임시 파일은 남지 않음
+        try (Stream<Path> staged = Files.walk(uploadRoot.resolve("blobs"))) {
+            assertThat(staged.filter(p -> p.getFileName().toString().endsWith(".tmp"))).isEmpty();
+        }
+
+        ArgumentCaptor<List<Image>> saved = ArgumentCaptor.forClass(List.class);
+        verify(imageRepository).saveAll(saved.capture());
+        List<Image> images = saved.getValue();
+        assertThat(images.get(0).getHash()).isEqualTo(images.get(1).getHash());
+        assertThat(images.get(0).getSize()).isEqualTo(3L);
+        Path blob = blobStore.blobPath(images.get(0).getHash());
+        assertThat(Files.readAllBytes(blob)).containsExactly(1, 2, 3);
+        assertThat(blob.getParent().getFileName().toString()).isEqualTo(images.get(0).getHash().substring(2, 4));
+
+        // variant 는 새 내용별로 한 번씩만
+        verify(imageVariantService, times(2)).generateVariantsAsync(any());
+
+        // 업로드 메트릭: 파일 3개, 7바이트
+        double uploadedFiles = meterRegistry.get("image.upload.files").counters().stream()
+                .mapToDouble(Counter::count).sum();
+        assertThat(uploadedFiles).isEqualTo(3.0);
+        assertThat(meterRegistry.get("image.upload.bytes").summary().totalAmount()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 내용을 다시 올리면 파일을 쓰지 않음")
+    void saveAll_ExistingBlobNotRewritten() throws IOException {
+        when(photoIdAllocator.next(PhotoKind.ROOM)).thenReturn(1, 2);
+        imageFileService.saveAll(List.of(image("a.png", new byte[] { 5, 5 })), List.of("room-0"));
+
+        imageFileService.saveAll(List.of(image("b.png", new byte[] { 5, 5 })), List.of("room-0"));
+
+        assertThat(countBlobs()).isEqualTo(1);
+        verify(imageVariantService, times(1)).generateVariantsAsync(any());
+    }
+
+    @Test
+    @DisplayName("매핑이 있으면 blob, 없으면 기존 경로의 파일")
+    void locate_BlobOrLegacy() throws IOException {
+        String hash = "ab".repeat(32);
+        when(imageRepository.findById(new Image.Key(PhotoKind.ROOM, 3))).thenReturn(Optional.of(
+                Image.builder().kind(PhotoKind.ROOM).photoId(3).hash(hash).size(1L).build()));
+        when(imageRepository.findById(new Image.Key(PhotoKind.ROOM, 4))).thenReturn(Optional.empty());
+        when(imageRepository.findById(new Image.Key(PhotoKind.ROOM, 5))).thenReturn(Optional.empty());
+        Files.createDirectories(uploadRoot.resolve("rooms"));
+        Files.write(uploadRoot.resolve("rooms/4.png"), new byte[] { 1 });
+
+        assertThat(imageFileService.locate(PhotoKind.ROOM, 3)).contains(blobStore.blobPath(hash));
+        assertThat(imageFileService.locate(PhotoKind.ROOM, 4)).contains(uploadRoot.resolve("rooms/4.png"));
+        assertThat(imageFileService.locate(PhotoKind.ROOM, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일이 섞여 있으면 저장 전에 거절")
+    void saveAll_RejectsNonImageBeforeWriting() {
+        List<MultipartFile> files = List.of(
+                image("cover.png", new byte[] { 1 }),
+                new MockMultipartFile("files", "note.txt", "text/plain", new byte[] { 1 }));
+
+        assertThatThrownBy(() -> imageFileService.saveAll(files, List.of("cover", "room-0")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(photoIdAllocator, never()).next(any());
+        assertThat(Files.exists(uploadRoot.resolve("blobs"))).isFalse();
+    }
+}
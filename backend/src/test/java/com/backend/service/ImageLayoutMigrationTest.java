@@ -0,0 +1,98 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.backend.entity.PhotoKind;
+
+@DisplayName("ImageLayoutMigration 테스트")
+class ImageLayoutMigrationTest {
+    @TempDir
+    Path uploadRoot;
+
+    private ImageLayoutMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new ImageLayoutMigration(uploadRoot.toString());
+    }
+
+    private Path write(String relative) throws IOException {
+        Path file = uploadRoot.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, relative.getBytes());
+        return file;
+    }
+
+    @Test
+    @DisplayName("photoId 하위 바이트부터 두 단계 hex 디렉터리")
+    void shardedPath_LowBytesFirst() {
+        assertThat(PhotoFileLayout.shardedPath(uploadRoot, PhotoKind.ROOM, 0x12345))
+                .isEqualTo(uploadRoot.resolve("rooms/45/23/74565.png"));
+        assertThat(PhotoFileLayout.shardedPath(uploadRoot, PhotoKind.GUESTHOUSE, 7))
+                .isEqualTo(uploadRoot.resolve("guesthouses/07/00/7.png"));
+    }
+
+    @Test
+    @DisplayName("원본과 variant 를 샤딩 위치로 옮기고 관련 없는 파일은 그대로")
+    void migrate_MovesOriginalsAndVariants() throws IOException {
+        write("rooms/300.png");
+        write("rooms/300_w480.png");
+        write("rooms/5.png");
+        Path other = write("rooms/readme.txt");
+
+        ImageLayoutMigration.Result result = migration.migrate(PhotoKind.ROOM);
+
+        assertThat(result.moved()).isEqualTo(3);
+        assertThat(uploadRoot.resolve("rooms/2c/01/300.png")).hasContent("rooms/300.png");
+        assertThat(uploadRoot.resolve("rooms/2c/01/300_w480.png")).exists();
+        assertThat(uploadRoot.resolve("rooms/05/00/5.png")).exists();
+        assertThat(uploadRoot.resolve("rooms/300.png")).doesNotExist();
+        assertThat(other).exists();
+
+        // 이전 후에도 같은 id 로 찾을 수 있고, variant 는 원본 옆에 있다.
+        Path located = PhotoFileLayout.locate(uploadRoot, PhotoKind.ROOM, 300).orElseThrow();
+        assertThat(ImageVariantService.variantPath(located, 480)).exists();
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 남은 파일만 옮기고 샤딩 위치의 파일은 덮어쓰지 않음")
+    void migrate_Rerunnable() throws IOException {
+        write("rooms/1.png");
+        migration.migrate(PhotoKind.ROOM);
+        Path stale = write("rooms/1.png");
+        write("rooms/2.png");
+
+        ImageLayoutMigration.Result result = migration.migrate(PhotoKind.ROOM);
+
+        assertThat(result.moved()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(stale).exists();
+        assertThat(uploadRoot.resolve("rooms/02/00/2.png")).exists();
+    }
+
+    @Test
+    @DisplayName("이전 중에는 샤딩/평면 배치 모두에서 조회")
+    void locate_BothLayouts() throws IOException {
+        Path flat = write("guesthouses/9.png");
+        Path sharded = write("guesthouses/0a/00/10.png");
+
+        assertThat(PhotoFileLayout.locate(uploadRoot, PhotoKind.GUESTHOUSE, 9)).contains(flat);
+        assertThat(PhotoFileLayout.locate(uploadRoot, PhotoKind.GUESTHOUSE, 10)).contains(sharded);
+        assertThat(PhotoFileLayout.locate(uploadRoot, PhotoKind.GUESTHOUSE, 11)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("디렉터리가 없으면 아무것도 하지 않음")
+    void migrate_NoDirectory() throws IOException {
+        assertThat(migration.migrate(PhotoKind.GUESTHOUSE)).isEqualTo(new ImageLayoutMigration.Result(0, 0));
+    }
+}
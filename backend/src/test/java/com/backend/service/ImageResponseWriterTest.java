@@ -0,0 +1,101 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ImageResponseWriter 테스트")
+class ImageResponseWriterTest {
+    @TempDir
+    Path dir;
+
+    private final ImageResponseWriter writer = new ImageResponseWriter();
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = dir.resolve("7.png");
+        Files.write(file, "0123456789".getBytes());
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/images/rooms/7.png");
+    }
+
+    @Test
+    @DisplayName("전체 응답: 해시 ETag + immutable 캐시")
+    void write_FullBody() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(file, true, get(), response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader("ETag")).matches("\"[0-9a-f]{64}\"");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable").contains("max-age=31536000");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("같은 ETag 로 재요청하면 304")
+    void write_NotModified() throws IOException {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        writer.write(file, true, get(), first);
+
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        writer.write(file, true, request, second);
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range 는 206, 범위 밖이면 416")
+    void write_Range() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse partial = new MockHttpServletResponse();
+        writer.write(file, true, request, partial);
+
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(partial.getContentAsString()).isEqualTo("2345");
+
+        MockHttpServletRequest outOfRange = get();
+        outOfRange.addHeader("Range", "bytes=20-");
+        MockHttpServletResponse unsatisfiable = new MockHttpServletResponse();
+        writer.write(file, true, outOfRange, unsatisfiable);
+
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("sendfile 지원 시 본문 대신 Tomcat sendfile 속성 설정")
+    void write_Sendfile() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute(ImageResponseWriter.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader("Range", "bytes=4-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(file, false, request, response);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(6);
+        assertThat(request.getAttribute(ImageResponseWriter.SENDFILE_FILENAME)).isEqualTo(file.toRealPath().toString());
+        assertThat(request.getAttribute(ImageResponseWriter.SENDFILE_START)).isEqualTo(4L);
+        assertThat(request.getAttribute(ImageResponseWriter.SENDFILE_END)).isEqualTo(10L);
+        assertThat(response.getHeader("Cache-Control")).doesNotContain("immutable");
+    }
+}
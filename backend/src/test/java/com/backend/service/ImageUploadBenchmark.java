@@ -0,0 +1,113 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.backend.repository.ImageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 동시 업로드(요청당 10개 파일) 처리량 측정.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("이미지 업로드 처리량 벤치마크")
+class ImageUploadBenchmark {
+    private static final int UPLOADERS = 8;
+    private static final int FILES_PER_UPLOAD = 10;
+    private static final int FILE_SIZE = 2 * 1024 * 1024;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path uploadRoot;
+
+    @ParameterizedTest(name = "쓰기 스레드 {0}개")
+    @ValueSource(ints = { 1, 4, 8 })
+    void concurrentTenFileUploads(int writeThreads) throws Exception {
+        AtomicInteger ids = new AtomicInteger();
+        PhotoIdAllocator allocator = mock(PhotoIdAllocator.class);
+        when(allocator.next(any())).thenAnswer(inv -> ids.incrementAndGet());
+
+        ExecutorService writers = Executors.newFixedThreadPool(writeThreads);
+        ExecutorService uploaders = Executors.newFixedThreadPool(UPLOADERS);
+        try {
+            ImageFileService service = new ImageFileService(allocator, writers, mock(ImageVariantService.class),
+                    new ImageBlobStore(uploadRoot.toString()), mock(ImageRepository.class),
+                    new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(service, "uploadRoot", uploadRoot.toString());
+
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < FILES_PER_UPLOAD; i++) {
+                keys.add(i == 0 ? "cover" : "room-" + i);
+            }
+
+            runRound(service, uploaders, keys); // warm-up
+            long elapsed = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                elapsed += runRound(service, uploaders, keys);
+            }
+
+            double seconds = elapsed / 1_000_000_000.0;
+            long totalFiles = (long) ROUNDS * UPLOADERS * FILES_PER_UPLOAD;
+            System.out.printf("writeThreads=%d uploads/s=%.1f files/s=%.1f MB/s=%.1f%n", writeThreads,
+                    ROUNDS * UPLOADERS / seconds, totalFiles / seconds,
+                    totalFiles * (double) FILE_SIZE / (1024 * 1024) / seconds);
+            assertThat(ids.get()).isEqualTo((ROUNDS + 1) * UPLOADERS * FILES_PER_UPLOAD);
+        } finally {
+            uploaders.shutdownNow();
+            writers.shutdownNow();
+        }
+    }
+
+    // UPLOADERS 개의 업로드를 동시에 시작해 모두 끝날 때까지의 시간(ns)
+    // 파일 내용은 매번 새로 만들어 중복 제거 없이 실제 쓰기를 측정한다.
+    private long runRound(ImageFileService service, ExecutorService uploaders, List<String> keys) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < UPLOADERS; i++) {
+            List<MultipartFile> files = randomFiles();
+            futures.add(uploaders.submit(() -> {
+                start.await();
+                return service.saveAll(files, keys);
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - begin;
+    }
+
+    private List<MultipartFile> randomFiles() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < FILES_PER_UPLOAD; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            ThreadLocalRandom.current().nextBytes(content);
+            files.add(new MockMultipartFile("files", i + ".png", "image/png", content));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,104 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ImageVariantService 테스트")
+class ImageVariantServiceTest {
+    @TempDir
+    Path dir;
+
+    private final ImageVariantService service = new ImageVariantService(new int[] { 160, 480, 1080 },
+            40_000_000);
+
+    private Path writeImage(String name, int width, int height, int type, String format) throws IOException {
+        Path path = dir.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, type), format, path.toFile());
+        return path;
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 폭의 variant 만 비율을 유지해 생성")
+    void generateVariants_OnlySmallerWidths() throws IOException {
+        // given: 800x400 PNG
+        Path original = writeImage("12.png", 800, 400, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // when
+        service.generateVariants(original);
+
+        // then
+        BufferedImage w160 = ImageIO.read(dir.resolve("12_w160.png").toFile());
+        BufferedImage w480 = ImageIO.read(dir.resolve("12_w480.png").toFile());
+        assertThat(w160.getWidth()).isEqualTo(160);
+        assertThat(w160.getHeight()).isEqualTo(80);
+        assertThat(w480.getWidth()).isEqualTo(480);
+        assertThat(Files.exists(dir.resolve("12_w1080.png"))).isFalse();
+        try (var files = Files.list(dir)) {
+            assertThat(files).noneMatch(p -> p.getFileName().toString().endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    @DisplayName("큰 원본은 줄여서 디코딩해도 variant 폭/비율 유지")
+    void generateVariants_SubsampledLargeOriginal() throws IOException {
+        // given: 5000x2500 → 가장 큰 variant(1080)의 2배 이상인 2500 폭으로 읽음
+        Path original = writeImage("7.png", 5000, 2500, BufferedImage.TYPE_INT_RGB, "png");
+
+        // when
+        service.generateVariants(original);
+
+        // then
+        BufferedImage w1080 = ImageIO.read(dir.resolve("7_w1080.png").toFile());
+        assertThat(w1080.getWidth()).isEqualTo(1080);
+        assertThat(w1080.getHeight()).isEqualTo(540);
+        assertThat(ImageIO.read(dir.resolve("7_w160.png").toFile()).getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("픽셀 수 제한을 넘는 이미지는 디코딩하지 않고 건너뜀")
+    void generateVariants_SkipsOversizedImage() throws IOException {
+        // given: 제한 100,000 픽셀, 800x400 = 320,000 픽셀
+        ImageVariantService limited = new ImageVariantService(new int[] { 160 }, 100_000);
+        Path original = writeImage("9.png", 800, 400, BufferedImage.TYPE_INT_RGB, "png");
+
+        // when
+        limited.generateVariants(original);
+
+        // then
+        assertThat(Files.exists(dir.resolve("9_w160.png"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("JPEG 원본은 JPEG 로 리사이즈")
+    void generateVariants_KeepsJpegFormat() throws IOException {
+        Path original = writeImage("3.png", 2000, 1500, BufferedImage.TYPE_INT_RGB, "jpeg");
+
+        service.generateVariants(original);
+
+        try (var in = ImageIO.createImageInputStream(dir.resolve("3_w1080.png").toFile())) {
+            assertThat(ImageIO.getImageReaders(in).next().getFormatName()).isEqualToIgnoringCase("jpeg");
+        }
+    }
+
+    @Test
+    @DisplayName("요청 폭 이상인 가장 작은 variant, 없으면 원본")
+    void resolve_PicksSmallestSufficientVariant() throws IOException {
+        Path original = writeImage("5.png", 800, 400, BufferedImage.TYPE_INT_RGB, "png");
+        service.generateVariants(original);
+
+        assertThat(service.resolve(original, 100)).isEqualTo(dir.resolve("5_w160.png"));
+        assertThat(service.resolve(original, 300)).isEqualTo(dir.resolve("5_w480.png"));
+        assertThat(service.resolve(original, 1000)).isEqualTo(original);
+        assertThat(service.resolve(original, null)).isEqualTo(original);
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.backend.entity.PhotoIdSequence;
+import com.backend.entity.PhotoKind;
+import com.backend.repository.GuesthouseRepository;
+import com.backend.repository.PhotoIdSequenceRepository;
+import com.backend.repository.RoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PhotoIdAllocator 테스트")
+class PhotoIdAllocatorTest {
+    @Mock
+    private PhotoIdSequenceRepository sequenceRepository;
+
+    @Mock
+    private GuesthouseRepository guesthouseRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private PhotoIdAllocator allocator(int blockSize) {
+        return new PhotoIdAllocator(sequenceRepository, guesthouseRepository, roomRepository,
+                TransactionOperations.withoutTransaction(), blockSize);
+    }
+
+    @Test
+    @DisplayName("시퀀스 행이 없으면 기존 최대 photoId 다음부터 발급")
+    void next_SeedsFromExistingMax() {
+        // given
+        when(sequenceRepository.findForUpdate(PhotoKind.ROOM)).thenReturn(Optional.empty());
+        when(roomRepository.findMaxPhotoId()).thenReturn(41);
+        PhotoIdAllocator allocator = allocator(10);
+
+        // when
+        int first = allocator.next(PhotoKind.ROOM);
+        int second = allocator.next(PhotoKind.ROOM);
+
+        // then: 블록 하나 예약 후 메모리에서 발급
+        assertThat(first).isEqualTo(42);
+        assertThat(second).isEqualTo(43);
+        verify(sequenceRepository, times(1)).saveAndFlush(any(PhotoIdSequence.class));
+        verify(guesthouseRepository, never()).findMaxPhotoId();
+    }
+
+    @Test
+    @DisplayName("동시 발급에도 중복 없이 블록 단위로만 DB 예약")
+    void next_ParallelCallers_UniqueIds() throws Exception {
+        // given
+        PhotoIdSequence sequence = PhotoIdSequence.builder().kind(PhotoKind.GUESTHOUSE).nextValue(1).build();
+        when(sequenceRepository.findForUpdate(PhotoKind.GUESTHOUSE)).thenReturn(Optional.of(sequence));
+        PhotoIdAllocator allocator = allocator(50);
+
+        int threads = 16;
+        int perThread = 200;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(allocator.next(PhotoKind.GUESTHOUSE));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then: 3200개 모두 고유, 블록(50개) 예약은 64번
+        assertThat(ids).hasSize(threads * perThread);
+        assertThat(ids).allMatch(id -> id >= 1 && id <= threads * perThread);
+        verify(sequenceRepository, times(threads * perThread / 50)).findForUpdate(PhotoKind.GUESTHOUSE);
+    }
+}
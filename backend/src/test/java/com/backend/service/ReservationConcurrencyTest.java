@@ -0,0 +1,157 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.backend.dto.request.ReservationRequest;
+import com.backend.entity.CapacityCalculator;
+import com.backend.entity.Reservation;
+import com.backend.entity.Room;
+import com.backend.entity.User;
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.OccupancyRow;
+import com.backend.repository.RoomRepository;
+import com.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 객실에 대한 동시 예약이 정원을 넘기지 않는지 검증한다.
+ * <p>
+ * 저장소를 모두 Mockito 로 대체한 순수 단위 테스트라서 노드 내 직렬화(RoomLocks stripe)만 검증한다.
+ * 노드 간 보호 장치인 객실 행 잠금(findByIdForUpdate 의 SELECT ... FOR UPDATE)은 여기서 전혀 실행되지 않으며,
+ * 이를 확인하려면 실제 DB 를 붙인 테스트가 필요하다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 동시성 테스트")
+class ReservationConcurrencyTest {
+    private static final int CAPACITY = 4;
+    private static final int REQUESTS = 300;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Mock
+    private GuesthouseSearchCache searchCache;
+
+    private ReservationService reservationService;
+
+    // 저장된 예약 (DB 테이블 역할)
+    private final List<Reservation> saved = new CopyOnWriteArrayList<>();
+    private final LocalDate base = LocalDate.of(2025, 10, 1);
+
+    private record StayRow(Integer roomId, LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount)
+            implements OccupancyRow {
+        public Integer getRoomId() { return roomId; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        User guest = User.builder().id(1).loginId("guest").username("게스트").password("pw").role("GUEST").build();
+        Room room = Room.builder().id(7).capacity(CAPACITY).build();
+
+        given(userRepository.findById(1)).willReturn(Optional.of(guest));
+        given(roomRepository.findByIdForUpdate(7)).willReturn(Optional.of(room));
+        given(occupancyIndex.isAvailable(anyInt(), anyInt(), any(), any(), anyInt())).willReturn(true);
+        given(reservationRepository.findOverlappingStays(eq(7), any(), any())).willAnswer(inv -> {
+            LocalDate checkIn = inv.getArgument(1);
+            LocalDate checkOut = inv.getArgument(2);
+            List<OccupancyRow> rows = new ArrayList<>();
+            for (Reservation r : saved) {
+                if (r.isOverlapping(checkIn, checkOut)) {
+                    rows.add(new StayRow(7, r.getCheckInDate(), r.getCheckOutDate(), r.getPeopleCount()));
+                }
+            }
+            return rows;
+        });
+        // 확인과 저장 사이를 벌려 잠금이 없으면 초과 예약이 쉽게 재현되도록 한다.
+        given(reservationRepository.save(any(Reservation.class))).willAnswer(inv -> {
+            Thread.sleep(1);
+            saved.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+
+        reservationService = new ReservationService(userRepository, reservationRepository, roomRepository,
+                occupancyIndex, new RoomLocks(16), searchCache, new SimpleMeterRegistry(),
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    @DisplayName("같은 객실에 동시에 몰린 예약도 박별 정원을 넘지 않음")
+    void createReservation_ParallelBookings_NeverOverbook() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(pool.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    LocalDate checkIn = base.plusDays(random.nextInt(10));
+                    ReservationRequest request = ReservationRequest.builder()
+                            .roomId(7)
+                            .checkInDate(checkIn)
+                            .checkOutDate(checkIn.plusDays(1 + random.nextInt(3)))
+                            .peopleCount(1 + random.nextInt(2))
+                            .build();
+                    start.await();
+                    return reservationService.createReservation(1, request);
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+
+            // then: 성공 건수만큼 저장되었고, 어느 박도 정원을 넘지 않음
+            assertThat(saved).hasSize(accepted);
+            assertThat(accepted).isPositive();
+            for (int day = 0; day < 13; day++) {
+                LocalDate night = base.plusDays(day);
+                assertThat(CapacityCalculator.peakOccupancy(saved, night, night.plusDays(1)))
+                        .as("%s 박 예약 인원", night)
+                        .isLessThanOrEqualTo(CAPACITY);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.dto.request.ReservationExportFormat;
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.HostReservationRow;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationExportService 테스트")
+class ReservationExportServiceTest {
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private ReservationExportService exportService;
+
+    private record Row(Integer id, Integer roomId, String roomName, Integer guestId, String guestUsername,
+            LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount) implements HostReservationRow {
+        public Integer getId() { return id; }
+        public Integer getRoomId() { return roomId; }
+        public String getRoomName() { return roomName; }
+        public Integer getGuestId() { return guestId; }
+        public String getGuestUsername() { return guestUsername; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+    }
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        exportService = new ReservationExportService(reservationRepository, objectMapper);
+
+        when(reservationRepository.streamForExport(1)).thenReturn(Stream.<HostReservationRow>of(
+                new Row(10, 3, "스탠다드", 7, "홍길동", LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 3), 2),
+                new Row(11, 4, "Ocean, \"Deluxe\"", 8, null, LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 4), 1))
+                .onClose(() -> closed.set(true)));
+    }
+
+    private String export(ReservationExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(1, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더 + 예약 1건당 한 줄, 쉼표/따옴표가 있는 값은 따옴표로 감쌈")
+    void export_Csv() throws IOException {
+        String csv = export(ReservationExportFormat.CSV);
+
+        assertThat(csv.split("\n")).containsExactly(
+                ReservationExportService.CSV_HEADER,
+                "10,3,스탠다드,7,홍길동,2025-09-01,2025-09-03,2",
+                "11,4,\"Ocean, \"\"Deluxe\"\"\",8,,2025-09-02,2025-09-04,1");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON - 목록 API 와 같은 모양의 JSON 을 한 줄에 한 건")
+    void export_Ndjson() throws IOException {
+        String ndjson = export(ReservationExportFormat.NDJSON);
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("{\"id\":10,\"room_id\":3,\"room_name\":\"스탠다드\","
+                + "\"guest\":{\"id\":7,\"username\":\"홍길동\"},"
+                + "\"check_in_date\":\"2025-09-01\",\"check_out_date\":\"2025-09-03\",\"people_count\":2}");
+        assertThat(lines[1]).contains("\"room_name\":\"Ocean, \\\"Deluxe\\\"\"");
+        assertThat(closed).isTrue();
+    }
+}
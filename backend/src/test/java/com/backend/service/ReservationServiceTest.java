@@ -6,11 +6,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,19 +20,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
 
 import com.backend.dto.request.ReservationRequest;
 import com.backend.dto.response.ReservationResponse;
 import com.backend.entity.Guesthouse;
 import com.backend.entity.Reservation;
-import com.backend.entity.Review;
 import com.backend.entity.Room;
 import com.backend.entity.User;
 import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.MyReservationRow;
+import com.backend.repository.ReservationRepository.OccupancyRow;
 import com.backend.repository.RoomRepository;
 import com.backend.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReservationService 테스트")
 class ReservationServiceTest {
@@ -45,9 +53,50 @@ class ReservationServiceTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Spy
+    private RoomLocks roomLocks = new RoomLocks(4);
+
+    @Mock
+    private GuesthouseSearchCache searchCache;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private ReservationService reservationService;
 
+    private double resultCount(String outcome) {
+        return meterRegistry.counter(ReservationService.RESULT_METRIC, "outcome", outcome).count();
+    }
+
+    private record StayRow(Integer roomId, LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount)
+            implements OccupancyRow {
+        public Integer getRoomId() { return roomId; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+    }
+
+    private record MyRow(Integer id, Integer roomId, Integer guesthouseId, String guesthouseName,
+            LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount, Integer reviewId,
+            String reviewComment) implements MyReservationRow {
+        public Integer getId() { return id; }
+        public Integer getRoomId() { return roomId; }
+        public Integer getGuesthouseId() { return guesthouseId; }
+        public String getGuesthouseName() { return guesthouseName; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+        public Integer getReviewId() { return reviewId; }
+        public String getReviewComment() { return reviewComment; }
+    }
+
     private User testUser;
     private Room testRoom;
     private Guesthouse testGuesthouse;
@@ -101,6 +150,9 @@ class ReservationServiceTest {
                 .checkOutDate(LocalDate.of(2024, 12, 18))
                 .peopleCount(2)
                 .build();
+
+        // 기본: 점유 인덱스는 판단을 DB 검증에 맡김
+        lenient().when(occupancyIndex.isAvailable(anyInt(), anyInt(), any(), any(), anyInt())).thenReturn(true);
     }
 
     @Test
@@ -108,9 +160,9 @@ class ReservationServiceTest {
     void createReservation_Success() {
         // given
         given(userRepository.findById(1)).willReturn(Optional.of(testUser));
-        given(roomRepository.findById(1)).willReturn(Optional.of(testRoom));
-        given(reservationRepository.sumPeopleCountForOverlap(anyInt(), any(), any()))
-                .willReturn(0); // 기존 예약 없음 → 정원 다 사용 가능
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(reservationRepository.findOverlappingStays(anyInt(), any(), any()))
+                .willReturn(List.of()); // 기존 예약 없음 → 정원 다 사용 가능
 
         // when
         boolean result = reservationService.createReservation(1, reservationRequest);
@@ -118,6 +170,27 @@ class ReservationServiceTest {
         // then
         assertThat(result).isTrue();
         verify(reservationRepository).save(any(Reservation.class));
+        assertThat(resultCount(ReservationService.ACCEPTED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 생성 실패 - 체크아웃이 체크인보다 빠른 요청은 조회 없이 거절")
+    void createReservation_InvalidDates() {
+        // given
+        ReservationRequest invalid = ReservationRequest.builder()
+                .roomId(1)
+                .checkInDate(LocalDate.of(2024, 12, 22))
+                .checkOutDate(LocalDate.of(2024, 12, 20))
+                .peopleCount(2)
+                .build();
+
+        // when
+        boolean result = reservationService.createReservation(1, invalid);
+
+        // then
+        assertThat(result).isFalse();
+        verify(roomRepository, never()).findByIdForUpdate(any());
+        assertThat(resultCount(ReservationService.REJECTED_INVALID)).isEqualTo(1);
     }
 
     @Test
@@ -139,7 +212,7 @@ class ReservationServiceTest {
     void createReservation_RoomNotFound() {
         // given
         given(userRepository.findById(1)).willReturn(Optional.of(testUser));
-        given(roomRepository.findById(1)).willReturn(Optional.empty());
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> reservationService.createReservation(1, reservationRequest))
@@ -161,8 +234,8 @@ class ReservationServiceTest {
                 .build();
 
         given(userRepository.findById(1)).willReturn(Optional.of(testUser));
-        given(roomRepository.findById(1)).willReturn(Optional.of(testRoom));
-        given(reservationRepository.sumPeopleCountForOverlap(anyInt(), any(), any())).willReturn(0);
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(reservationRepository.findOverlappingStays(anyInt(), any(), any())).willReturn(List.of());
 
         // when
         boolean result = reservationService.createReservation(1, overCapacityRequest);
@@ -170,20 +243,93 @@ class ReservationServiceTest {
         // then
         assertThat(result).isFalse();
         verify(reservationRepository, never()).save(any());
+        assertThat(resultCount(ReservationService.REJECTED_CAPACITY)).isEqualTo(1);
+        assertThat(resultCount(ReservationService.ACCEPTED)).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공 - 서로 겹치지 않는 기존 예약은 합산하지 않음")
+    void createReservation_NonOverlappingStaysUsePeakNight() {
+        // given: 정원 4명, 12/20 박 2명 + 12/21 박 2명 → 어느 박이든 2명만 예약됨
+        given(userRepository.findById(1)).willReturn(Optional.of(testUser));
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(reservationRepository.findOverlappingStays(1, reservationRequest.getCheckInDate(),
+                reservationRequest.getCheckOutDate())).willReturn(List.of(
+                        new StayRow(1, LocalDate.of(2024, 12, 19), LocalDate.of(2024, 12, 21), 2),
+                        new StayRow(1, LocalDate.of(2024, 12, 21), LocalDate.of(2024, 12, 23), 2)));
+
+        // when
+        boolean result = reservationService.createReservation(1, reservationRequest);
+
+        // then
+        assertThat(result).isTrue();
+        verify(reservationRepository).save(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("예약 생성 실패 - 같은 박에 겹치는 예약이 정원을 채움")
+    void createReservation_PeakNightFull() {
+        // given: 12/21 박에 2명 + 1명 → 남은 정원 1명
+        given(userRepository.findById(1)).willReturn(Optional.of(testUser));
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(reservationRepository.findOverlappingStays(1, reservationRequest.getCheckInDate(),
+                reservationRequest.getCheckOutDate())).willReturn(List.of(
+                        new StayRow(1, LocalDate.of(2024, 12, 21), LocalDate.of(2024, 12, 23), 2),
+                        new StayRow(1, LocalDate.of(2024, 12, 20), LocalDate.of(2024, 12, 22), 1)));
+
+        // when
+        boolean result = reservationService.createReservation(1, reservationRequest);
+
+        // then
+        assertThat(result).isFalse();
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("점유 인덱스가 실제보다 많게 어긋나 있어도 DB 가 비어 있으면 예약 성공 후 인덱스 재동기화")
+    void createReservation_StaleOccupancyIndex_FallsThroughToDb() {
+        // given: 다른 노드의 취소가 반영되지 않아 인덱스는 정원 초과, DB 에는 겹치는 예약 없음
+        given(userRepository.findById(1)).willReturn(Optional.of(testUser));
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(occupancyIndex.isAvailable(1, 4, reservationRequest.getCheckInDate(),
+                reservationRequest.getCheckOutDate(), 2)).willReturn(false);
+        given(reservationRepository.findOverlappingStays(1, reservationRequest.getCheckInDate(),
+                reservationRequest.getCheckOutDate())).willReturn(List.of());
+
+        // when
+        boolean result = reservationService.createReservation(1, reservationRequest);
+
+        // then
+        assertThat(result).isTrue();
+        verify(reservationRepository).save(any(Reservation.class));
+        verify(occupancyIndex).resync(1, reservationRequest.getCheckInDate(), reservationRequest.getCheckOutDate(),
+                List.of());
+        assertThat(resultCount(ReservationService.ACCEPTED)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공 시 점유 인덱스 갱신")
+    void createReservation_UpdatesOccupancyIndex() {
+        // given
+        given(userRepository.findById(1)).willReturn(Optional.of(testUser));
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
+        given(reservationRepository.findOverlappingStays(anyInt(), any(), any())).willReturn(List.of());
+
+        // when
+        reservationService.createReservation(1, reservationRequest);
+
+        // then
+        verify(occupancyIndex).reservationCreated(1, LocalDate.of(2024, 12, 20), LocalDate.of(2024, 12, 22), 2);
+        verify(searchCache).reservationChanged(LocalDate.of(2024, 12, 20), LocalDate.of(2024, 12, 22));
     }
 
     @Test
     @DisplayName("내 예약 목록 조회 성공")
     void getMyReservations_Success() {
         // given
-        Review testReview = Review.builder()
-                .id(1)
-                .comment("좋은 숙소였습니다")
-                .build();
-        
-        existingReservation.setReview(testReview);
-        
-        given(reservationRepository.findByGuest_Id(1)).willReturn(Arrays.asList(existingReservation));
+        given(reservationRepository.findMyReservations(1, Pageable.unpaged())).willReturn(List.of(
+                new MyRow(1, 1, 1, "테스트게스트하우스", LocalDate.of(2024, 12, 15), LocalDate.of(2024, 12, 18), 2,
+                        1, "좋은 숙소였습니다")));
 
         // when
         List<ReservationResponse> responses = reservationService.getMyReservations(1);
@@ -200,13 +346,16 @@ class ReservationServiceTest {
         assertThat(response.getPeopleCount()).isEqualTo(2);
         assertThat(response.getReviewId()).isEqualTo(1);
         assertThat(response.getReviewComment()).isEqualTo("좋은 숙소였습니다");
+        verify(reservationRepository, never()).findByGuest_Id(any());
     }
 
     @Test
     @DisplayName("내 예약 목록 조회 성공 - 리뷰 없는 경우")
     void getMyReservations_NoReview() {
         // given
-        given(reservationRepository.findByGuest_Id(1)).willReturn(Arrays.asList(existingReservation));
+        given(reservationRepository.findMyReservations(1, Pageable.unpaged())).willReturn(List.of(
+                new MyRow(1, 1, 1, "테스트게스트하우스", LocalDate.of(2024, 12, 15), LocalDate.of(2024, 12, 18), 2,
+                        null, null)));
 
         // when
         List<ReservationResponse> responses = reservationService.getMyReservations(1);
@@ -218,6 +367,20 @@ class ReservationServiceTest {
         assertThat(response.getReviewComment()).isNull();
     }
 
+    @Test
+    @DisplayName("내 예약 목록 페이지 조회 - 요청한 페이지를 그대로 쿼리에 전달")
+    void getMyReservations_Paged() {
+        // given
+        PageRequest secondPage = PageRequest.of(1, 20);
+        given(reservationRepository.findMyReservations(1, secondPage)).willReturn(List.of());
+
+        // when
+        List<ReservationResponse> responses = reservationService.getMyReservations(1, secondPage);
+
+        // then
+        assertThat(responses).isEmpty();
+    }
+
     @Test
     @DisplayName("예약 취소 성공 - 체크인 전")
     void cancelReservation_Success() {
@@ -239,6 +402,10 @@ class ReservationServiceTest {
         // then
         assertThat(result).isTrue();
         verify(reservationRepository).delete(futureReservation);
+        verify(occupancyIndex).reservationCancelled(1, futureReservation.getCheckInDate(),
+                futureReservation.getCheckOutDate(), 2);
+        verify(searchCache).reservationChanged(futureReservation.getCheckInDate(),
+                futureReservation.getCheckOutDate());
     }
 
     @Test
@@ -319,14 +486,14 @@ class ReservationServiceTest {
                 .build();
 
         given(userRepository.findById(1)).willReturn(Optional.of(testUser));
-        given(roomRepository.findById(1)).willReturn(Optional.of(testRoom));
+        given(roomRepository.findByIdForUpdate(1)).willReturn(Optional.of(testRoom));
 
         // ✅ 서비스가 사용하는 메서드를 Stub (경계에서는 중복 0으로)
-        given(reservationRepository.sumPeopleCountForOverlap(
+        given(reservationRepository.findOverlappingStays(
                 eq(1),
                 eq(LocalDate.of(2024, 12, 18)),
                 eq(LocalDate.of(2024, 12, 20))
-        )).willReturn(0);
+        )).willReturn(List.of());
 
         // when
         boolean result = reservationService.createReservation(1, boundaryRequest);
@@ -335,7 +502,7 @@ class ReservationServiceTest {
         assertThat(result).isTrue();
         verify(reservationRepository).save(any(Reservation.class));
         // (선택) 실제 호출 파라미터 확인
-        verify(reservationRepository).sumPeopleCountForOverlap(
+        verify(reservationRepository).findOverlappingStays(
                 eq(1),
                 eq(LocalDate.of(2024, 12, 18)),
                 eq(LocalDate.of(2024, 12, 20))
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +51,9 @@ class ReviewServiceTest {
 
     @Mock
     private GuesthouseRepository guesthouseRepository;
+
+    @Mock
+    private GuesthouseSearchCache searchCache;
     
     @InjectMocks
     private ReviewService reviewService;
@@ -98,8 +103,8 @@ class ReviewServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(guesthouseRepository.findById(guesthouse.getId())).thenReturn(Optional.of(guesthouse));
         when(reviewRepository.save(any(Review.class))).thenReturn(savedReview);
+        when(guesthouseRepository.findByIdForUpdate(1)).thenReturn(Optional.of(guesthouse));
 
         // when
         ReviewResponseDto response = reviewService.createReview(1, request);
@@ -112,6 +117,10 @@ class ReviewServiceTest {
         assertEquals("좋았습니다!", response.getComment());
 
         verify(reviewRepository, times(1)).save(any(Review.class));
+        assertEquals(5, guesthouse.getRatingSum());
+        assertEquals(1, guesthouse.getReviewCount());
+        assertEquals(5.0, guesthouse.getRating());
+        verify(searchCache).guesthouseChanged(1);
     }
 
     @Test
@@ -184,6 +193,8 @@ class ReviewServiceTest {
                 .build();
 
         when(reviewRepository.findById(10)).thenReturn(Optional.of(review));
+        guesthouse.applyReviewDelta(7, 2);
+        when(guesthouseRepository.findByIdForUpdate(1)).thenReturn(Optional.of(guesthouse));
 
         ReviewUpdateRequest request = new ReviewUpdateRequest(5, "아주 좋음!");
 
@@ -194,6 +205,32 @@ class ReviewServiceTest {
         assertTrue(result);
         assertEquals(5, review.getRating());
         assertEquals("아주 좋음!", review.getComment());
+        assertEquals(9, guesthouse.getRatingSum());
+        assertEquals(2, guesthouse.getReviewCount());
+        assertEquals(4.5, guesthouse.getRating());
+        verify(searchCache).guesthouseChanged(1);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정 - 평점이 그대로면 집계 갱신 없음")
+    void updateReview_commentOnly() {
+        // given
+        Review review = Review.builder()
+                .id(10)
+                .reservation(reservation)
+                .rating(3)
+                .comment("보통이었음")
+                .build();
+
+        when(reviewRepository.findById(10)).thenReturn(Optional.of(review));
+
+        // when
+        boolean result = reviewService.updateReview(1, 10, new ReviewUpdateRequest(null, "생각보다 괜찮음"));
+
+        // then
+        assertTrue(result);
+        verify(guesthouseRepository, never()).findByIdForUpdate(anyInt());
+        verify(searchCache, never()).guesthouseChanged(anyInt());
     }
 
     @Test
@@ -230,6 +267,8 @@ class ReviewServiceTest {
                 .build();
 
         when(reviewRepository.findById(10)).thenReturn(Optional.of(review));
+        guesthouse.applyReviewDelta(4, 1);
+        when(guesthouseRepository.findByIdForUpdate(1)).thenReturn(Optional.of(guesthouse));
 
         // when
         boolean result = reviewService.deleteReview(1, 10);
@@ -237,6 +276,10 @@ class ReviewServiceTest {
         // then
         assertTrue(result);
         verify(reviewRepository, times(1)).delete(review);
+        assertEquals(0, guesthouse.getRatingSum());
+        assertEquals(0, guesthouse.getReviewCount());
+        assertEquals(0.0, guesthouse.getRating());
+        verify(searchCache).guesthouseChanged(1);
     }
 
     @Test
@@ -0,0 +1,157 @@
+package com.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.repository.ReservationRepository;
+import com.backend.repository.ReservationRepository.OccupancyRow;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoomOccupancyIndex 테스트")
+class RoomOccupancyIndexTest {
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private final LocalDate today = LocalDate.of(2025, 9, 1);
+    private final AtomicReference<LocalDate> clock = new AtomicReference<>(today);
+    private RoomOccupancyIndex index;
+
+    private record Row(Integer roomId, LocalDate checkInDate, LocalDate checkOutDate, Integer peopleCount)
+            implements OccupancyRow {
+        public Integer getRoomId() { return roomId; }
+        public LocalDate getCheckInDate() { return checkInDate; }
+        public LocalDate getCheckOutDate() { return checkOutDate; }
+        public Integer getPeopleCount() { return peopleCount; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomOccupancyIndex(reservationRepository, 30, clock::get);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 판단 불가")
+    void peakOccupancy_BeforeLoad_Unknown() {
+        assertThat(index.peakOccupancy(1, today, today.plusDays(1))).isEqualTo(RoomOccupancyIndex.UNKNOWN);
+        assertThat(index.isAvailable(1, 2, today, today.plusDays(1), 10)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 예약으로 박별 최대 인원 계산")
+    void load_ComputesNightlyPeak() {
+        // given: 9/2~9/4 2명, 9/3~9/5 1명 → 9/3 박이 3명
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of(
+                new Row(1, today.plusDays(1), today.plusDays(3), 2),
+                new Row(1, today.plusDays(2), today.plusDays(4), 1)));
+
+        // when
+        index.load();
+
+        // then
+        assertThat(index.peakOccupancy(1, today, today.plusDays(2))).isEqualTo(2);
+        assertThat(index.peakOccupancy(1, today, today.plusDays(5))).isEqualTo(3);
+        assertThat(index.peakOccupancy(1, today.plusDays(3), today.plusDays(5))).isEqualTo(1);
+        assertThat(index.peakOccupancy(2, today, today.plusDays(5))).isZero();
+        assertThat(index.isAvailable(1, 4, today, today.plusDays(5), 1)).isTrue();
+        assertThat(index.isAvailable(1, 4, today, today.plusDays(5), 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약 생성/취소가 인덱스에 반영")
+    void createAndCancel_UpdateIndex() {
+        // given
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of());
+        index.load();
+
+        // when
+        index.reservationCreated(1, today.plusDays(1), today.plusDays(3), 2);
+        index.reservationCreated(1, today.plusDays(2), today.plusDays(3), 1);
+
+        // then
+        assertThat(index.peakOccupancy(1, today, today.plusDays(3))).isEqualTo(3);
+
+        index.reservationCancelled(1, today.plusDays(2), today.plusDays(3), 1);
+        assertThat(index.peakOccupancy(1, today, today.plusDays(3))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("과거 날짜나 horizon 이후 기간은 판단 불가")
+    void peakOccupancy_OutOfHorizon_Unknown() {
+        // given
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of());
+        index.load();
+
+        // then
+        assertThat(index.peakOccupancy(1, today.minusDays(1), today.plusDays(1)))
+                .isEqualTo(RoomOccupancyIndex.UNKNOWN);
+        assertThat(index.peakOccupancy(1, today.plusDays(10), today.plusDays(31)))
+                .isEqualTo(RoomOccupancyIndex.UNKNOWN);
+        assertThat(index.peakOccupancy(1, today.plusDays(10), today.plusDays(30))).isZero();
+    }
+
+    @Test
+    @DisplayName("날짜가 지나면 지난 박 슬롯을 비우고 새 박으로 재사용")
+    void rollingHorizon_ClearsPastNights() {
+        // given: 오늘 1박 예약
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of(
+                new Row(1, today, today.plusDays(1), 2)));
+        index.load();
+
+        // when: 하루 경과 → 이전 슬롯은 today+30 박으로 재사용
+        LocalDate tomorrow = today.plusDays(1);
+        clock.set(tomorrow);
+
+        // then
+        assertThat(index.peakOccupancy(1, tomorrow, tomorrow.plusDays(30))).isZero();
+    }
+
+    @Test
+    @DisplayName("horizon 밖까지 이어진 예약을 horizon 이 지난 뒤 취소해도 인원이 음수가 되지 않음")
+    void cancelAfterHorizonRolled_DoesNotGoNegative() {
+        // given: 적재 시 today+28 ~ today+32 예약은 today+30 까지만 기록됨
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of(
+                new Row(1, today.plusDays(28), today.plusDays(32), 2)));
+        index.load();
+
+        // when: 5일 경과 후 취소 → today+30, today+31 박은 기록된 적 없음
+        LocalDate later = today.plusDays(5);
+        clock.set(later);
+        index.reservationCancelled(1, today.plusDays(28), today.plusDays(32), 2);
+        index.reservationCreated(1, today.plusDays(30), today.plusDays(31), 3);
+
+        // then
+        assertThat(index.peakOccupancy(1, later, later.plusDays(30))).isEqualTo(3);
+        index.reservationCreated(1, today.plusDays(31), today.plusDays(32), 4);
+        assertThat(index.peakOccupancy(1, today.plusDays(31), today.plusDays(32))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 예약으로 기간을 다시 맞춤")
+    void resync_OverwritesRangeWithStays() {
+        // given: 다른 노드에서 취소된 예약이 남아 정원(4) 초과로 보임
+        when(reservationRepository.findOccupancyFrom(today)).thenReturn(List.of(
+                new Row(1, today.plusDays(1), today.plusDays(4), 4)));
+        index.load();
+        assertThat(index.isAvailable(1, 4, today.plusDays(1), today.plusDays(3), 1)).isFalse();
+
+        // when: DB 에는 9/3 1박 1명만 남아 있음
+        index.resync(1, today.plusDays(1), today.plusDays(3), List.of(
+                new Row(1, today.plusDays(2), today.plusDays(3), 1)));
+
+        // then: 맞춘 기간만 바뀌고 기간 밖(today+3 박)은 그대로
+        assertThat(index.peakOccupancy(1, today.plusDays(1), today.plusDays(2))).isZero();
+        assertThat(index.peakOccupancy(1, today.plusDays(2), today.plusDays(3))).isEqualTo(1);
+        assertThat(index.peakOccupancy(1, today.plusDays(3), today.plusDays(4))).isEqualTo(4);
+    }
+}